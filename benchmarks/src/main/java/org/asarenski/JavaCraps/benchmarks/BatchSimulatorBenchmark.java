@@ -0,0 +1,54 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.BatchSimulator;
+import org.asarenski.JavaCraps.core.SimulationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the seeded, per-lane {@link BatchSimulator} with the SIMD kernel enabled and disabled.
+ * The fork enables {@code jdk.incubator.vector}; the {@code simd} parameter toggles the
+ * {@code javacraps.simd} property so both kernels run in the same JVM configuration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Thread)
+public class BatchSimulatorBenchmark {
+    private static final int INITIAL_BALANCE = 100;
+    private static final int BET = 10;
+    private static final int MAX_ROUNDS = 1000;
+    private static final int SESSIONS = 1024;
+
+    @Param({"true", "false"})
+    private boolean simd;
+
+    @Param({"256", "1024"})
+    private int lanes;
+
+    private BatchSimulator simulator;
+
+    @Setup
+    public void setUp() {
+        System.setProperty("javacraps.simd", String.valueOf(simd));
+        simulator = new BatchSimulator(INITIAL_BALANCE, BET, MAX_ROUNDS, lanes, 42L);
+    }
+
+    @Benchmark
+    public SimulationResult sessions() {
+        return simulator.run(SESSIONS);
+    }
+}
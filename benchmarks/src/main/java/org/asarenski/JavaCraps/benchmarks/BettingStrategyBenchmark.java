@@ -0,0 +1,66 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.BettingStrategies;
+import org.asarenski.JavaCraps.core.BettingStrategy;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.SimulationResult;
+import org.asarenski.JavaCraps.core.Simulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares betting strategies head to head, both on their own and driving complete simulated sessions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BettingStrategyBenchmark {
+    private static final int INITIAL_BALANCE = 100;
+    private static final int MAX_ROUNDS = 1000;
+
+    @Param({"flat:10", "martingale:5:320", "paroli:5", "kelly:0.1"})
+    private String strategySpec;
+
+    private BettingStrategy strategy;
+    private Simulator simulator;
+    private boolean won;
+
+    @Setup
+    public void setUp() {
+        strategy = BettingStrategies.create(strategySpec);
+        simulator = new Simulator(INITIAL_BALANCE, BettingStrategies.create(strategySpec), MAX_ROUNDS,
+                new Dice(DiceAlgorithm.SPLITMIX64.create(42L)));
+    }
+
+    @Benchmark
+    public void decide(Blackhole blackhole) {
+        int bet = strategy.nextBet(INITIAL_BALANCE);
+        won = !won;
+        strategy.onRoundResolved(won, bet);
+        blackhole.consume(bet);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public SimulationResult session() {
+        SimulationResult result = new SimulationResult();
+        simulator.playSession(result);
+        return result;
+    }
+}
@@ -0,0 +1,113 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.ColumnarRollReader;
+import org.asarenski.JavaCraps.core.ColumnarRollWriter;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.FlatBetStrategy;
+import org.asarenski.JavaCraps.core.RollColumn;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.asarenski.JavaCraps.core.Simulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures exporting simulated rolls to a {@link ColumnarRollWriter} and scanning one column of
+ * the file back, per roll. The rolls are simulated once up front so only the export is timed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColumnarRollBenchmark {
+    private static final int ROLLS = 1 << 20;
+
+    private final int[] die1 = new int[ROLLS];
+    private final int[] die2 = new int[ROLLS];
+    private final int[] points = new int[ROLLS];
+    private final RoundState.Outcome[] outcomes = new RoundState.Outcome[ROLLS];
+    private final int[] bets = new int[ROLLS];
+    private final int[] balances = new int[ROLLS];
+    private Path writePath;
+    private Path readPath;
+    private int[] column;
+
+    @Setup
+    public void setUp() throws IOException {
+        Simulator simulator = new Simulator(500, new FlatBetStrategy(10), 1000,
+                new Dice(DiceAlgorithm.DEFAULT.create(42L)));
+        int[] count = new int[1];
+        simulator.addRollListener((d1, d2, point, outcome, bet, balance) -> {
+            int i = count[0];
+            if (i < ROLLS) {
+                die1[i] = d1;
+                die2[i] = d2;
+                points[i] = point;
+                outcomes[i] = outcome;
+                bets[i] = bet;
+                balances[i] = balance;
+                count[0]++;
+            }
+        });
+        while (count[0] < ROLLS) {
+            simulator.run(100);
+        }
+        writePath = Files.createTempFile("rolls", ".jccl");
+        readPath = Files.createTempFile("rolls", ".jccl");
+        write(readPath);
+        column = new int[1 << 16];
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(writePath);
+        Files.deleteIfExists(readPath);
+    }
+
+    private long write(Path path) throws IOException {
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path)) {
+            for (int i = 0; i < ROLLS; i++) {
+                writer.onRoll(die1[i], die2[i], points[i], outcomes[i], bets[i], balances[i]);
+            }
+            return writer.getRowCount();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public long writeRolls() throws IOException {
+        return write(writePath);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROLLS)
+    public long scanBalances() throws IOException {
+        long sum = 0;
+        try (ColumnarRollReader reader = new ColumnarRollReader(readPath)) {
+            for (int group = 0; group < reader.getRowGroupCount(); group++) {
+                int rows = reader.readColumn(group, RollColumn.BALANCE, column);
+                for (int i = 0; i < rows; i++) {
+                    sum += column[i];
+                }
+            }
+        }
+        return sum;
+    }
+}
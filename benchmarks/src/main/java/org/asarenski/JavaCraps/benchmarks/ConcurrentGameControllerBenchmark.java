@@ -0,0 +1,86 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.controller.ConcurrentGameController;
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures three readers polling the balance while one writer rolls, comparing the volatile
+ * views of {@link ConcurrentGameController} with a {@link GameController} guarded by {@code synchronized}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentGameControllerBenchmark {
+    private static final int BET = 10;
+
+    private ConcurrentGameController concurrent;
+    private GameController synchronizedController;
+
+    @Setup
+    public void setUp() {
+        // Bankrolls this large cannot be exhausted within a benchmark run
+        concurrent = new ConcurrentGameController(new Player("Benchmark", Integer.MAX_VALUE / 2),
+                new Dice(DiceAlgorithm.SPLITMIX64.create(42L)));
+        synchronizedController = new GameController(new Player("Benchmark", Integer.MAX_VALUE / 2),
+                new Dice(DiceAlgorithm.SPLITMIX64.create(42L)));
+    }
+
+    @Benchmark
+    @Group("views")
+    @GroupThreads(1)
+    public int viewsRoll() {
+        if (concurrent.getView().isRoundOver() || concurrent.getView().currentBet() == 0) {
+            concurrent.startNewRound(BET);
+        }
+        return concurrent.roll().balance();
+    }
+
+    @Benchmark
+    @Group("views")
+    @GroupThreads(3)
+    public int viewsRead() {
+        return concurrent.getBalance();
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(1)
+    public int lockedRoll() {
+        synchronized (synchronizedController) {
+            if (synchronizedController.isRoundOver() || synchronizedController.getPlayer().getCurrentBet() == 0) {
+                synchronizedController.startNewRound(BET);
+            }
+            synchronizedController.roll();
+            return synchronizedController.getPlayer().getBalance();
+        }
+    }
+
+    @Benchmark
+    @Group("locked")
+    @GroupThreads(3)
+    public int lockedRead() {
+        synchronized (synchronizedController) {
+            return synchronizedController.getPlayer().getBalance();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of a single {@link Dice#roll()} for each dice algorithm.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DiceBenchmark {
+
+    @Param({"L64X128_MIX", "XOROSHIRO128_PLUS_PLUS", "SPLITTABLE", "LEGACY"})
+    private DiceAlgorithm algorithm;
+
+    private Dice dice;
+
+    @Setup
+    public void setUp() {
+        dice = new Dice(algorithm.create(42L));
+    }
+
+    @Benchmark
+    public int roll() {
+        return dice.roll();
+    }
+}
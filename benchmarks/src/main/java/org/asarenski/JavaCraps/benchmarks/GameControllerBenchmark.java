@@ -0,0 +1,65 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.controller.MetricsRegistry;
+import org.asarenski.JavaCraps.controller.SimpleMetricsRegistry;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link GameController#roll()} including move validation, and a complete
+ * round driven through the controller the way the CLI plays it, with metrics disabled
+ * or recorded into a {@link SimpleMetricsRegistry}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameControllerBenchmark {
+    private static final int BET = 10;
+
+    @Param({"false", "true"})
+    public boolean metrics;
+
+    private GameController controller;
+
+    @Setup
+    public void setUp() {
+        Player player = new Player("Benchmark", Integer.MAX_VALUE / 2);
+        controller = new GameController(player, new Dice(DiceAlgorithm.DEFAULT.create(42L)),
+                metrics ? new SimpleMetricsRegistry() : MetricsRegistry.NOOP);
+    }
+
+    @Benchmark
+    public int roll() {
+        if (controller.isRoundOver() || controller.getPlayer().getCurrentBet() == 0) {
+            controller.startNewRound(BET);
+        }
+        return controller.roll();
+    }
+
+    @Benchmark
+    public boolean fullRound() {
+        controller.startNewRound(BET);
+        do {
+            controller.roll();
+        } while (!controller.isRoundOver());
+        return controller.isWin();
+    }
+}
@@ -0,0 +1,66 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.controller.GameSnapshot;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing and restoring a {@link GameSnapshot} of a controller whose dice have
+ * already rolled {@code rolls} times, which restoring jumps past in constant time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameSnapshotBenchmark {
+    private static final int BET = 10;
+
+    @Param({"1000", "1000000"})
+    public int rolls;
+
+    private GameController controller;
+    private final ByteBuffer buffer = ByteBuffer.allocate(256);
+    private byte[] snapshot;
+
+    @Setup
+    public void setUp() {
+        controller = new GameController(new Player("Benchmark", Integer.MAX_VALUE / 2),
+                new Dice(GameSnapshot.DICE_ALGORITHM.create(42L)));
+        for (int i = 0; i < rolls; i++) {
+            if (controller.isRoundOver() || controller.getPlayer().getCurrentBet() == 0) {
+                controller.startNewRound(BET);
+            }
+            controller.roll();
+        }
+        snapshot = GameSnapshot.toBytes(controller);
+    }
+
+    @Benchmark
+    public int write() {
+        buffer.clear();
+        GameSnapshot.write(controller, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public GameController restore() {
+        return GameSnapshot.fromBytes(snapshot);
+    }
+}
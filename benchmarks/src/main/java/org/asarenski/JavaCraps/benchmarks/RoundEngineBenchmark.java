@@ -0,0 +1,60 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RoundEngine#rollDice()} and a complete betting round on the engine.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundEngineBenchmark {
+    private static final int BET = 10;
+
+    private RoundEngine engine;
+
+    @Setup
+    public void setUp() {
+        // A bankroll this large cannot be exhausted within a benchmark run
+        Player player = new Player("Benchmark", Integer.MAX_VALUE / 2);
+        engine = new RoundEngine(player, new Dice(DiceAlgorithm.DEFAULT.create(42L)));
+    }
+
+    @Benchmark
+    public int rollDice() {
+        if (engine.isGameOver()) {
+            engine.resetRound();
+        }
+        return engine.rollDice();
+    }
+
+    @Benchmark
+    public int fullRound() {
+        engine.resetRound();
+        engine.placeBet(BET);
+        int rolls = 0;
+        do {
+            engine.rollDice();
+            rolls++;
+        } while (!engine.isGameOver());
+        return rolls;
+    }
+}
@@ -0,0 +1,99 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.asarenski.JavaCraps.core.RuleTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link RoundState#checkOutcome(int)} and {@link RoundState#resolve(int)} in
+ * isolation by replaying a precomputed sequence of roll totals, so dice cost is excluded.
+ * {@link #branchingResolve()} keeps the original if-chain implementation as a baseline
+ * for the table-driven {@link RuleTable} lookup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoundStateBenchmark {
+    private static final int ROLL_COUNT = 4096;
+
+    private final int[] rolls = new int[ROLL_COUNT];
+    private final RoundState roundState = new RoundState();
+    private int index;
+
+    // State for the branching baseline
+    private int baselinePoint;
+    private RoundState.Status baselineStatus = RoundState.Status.PLAYING;
+
+    @Setup
+    public void setUp() {
+        Dice dice = new Dice(DiceAlgorithm.SPLITTABLE.create(42L));
+        for (int i = 0; i < ROLL_COUNT; i++) {
+            rolls[i] = dice.roll();
+        }
+    }
+
+    @Benchmark
+    public Boolean checkOutcome() {
+        if (roundState.getGameStatus() != RoundState.Status.PLAYING) {
+            roundState.reset();
+        }
+        int roll = rolls[index];
+        index = (index + 1) & (ROLL_COUNT - 1);
+        return roundState.checkOutcome(roll);
+    }
+
+    @Benchmark
+    public RoundState.Outcome resolve() {
+        if (roundState.getGameStatus() != RoundState.Status.PLAYING) {
+            roundState.reset();
+        }
+        int roll = rolls[index];
+        index = (index + 1) & (ROLL_COUNT - 1);
+        return roundState.resolve(roll);
+    }
+
+    @Benchmark
+    public RoundState.Outcome branchingResolve() {
+        if (baselineStatus != RoundState.Status.PLAYING) {
+            baselinePoint = 0;
+            baselineStatus = RoundState.Status.PLAYING;
+        }
+        int roll = rolls[index];
+        index = (index + 1) & (ROLL_COUNT - 1);
+        if (baselinePoint == 0) {
+            if (roll == 7 || roll == 11) {
+                baselineStatus = RoundState.Status.WIN;
+                return RoundState.Outcome.WIN;
+            } else if (roll == 2 || roll == 3 || roll == 12) {
+                baselineStatus = RoundState.Status.LOSE;
+                return RoundState.Outcome.LOSE;
+            }
+            baselinePoint = roll;
+            return RoundState.Outcome.CONTINUE;
+        }
+        if (roll == baselinePoint) {
+            baselineStatus = RoundState.Status.WIN;
+            return RoundState.Outcome.WIN;
+        } else if (roll == 7) {
+            baselineStatus = RoundState.Status.LOSE;
+            return RoundState.Outcome.LOSE;
+        }
+        return RoundState.Outcome.CONTINUE;
+    }
+}
@@ -0,0 +1,66 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.BatchSimulator;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.FlatBetStrategy;
+import org.asarenski.JavaCraps.core.SimulationResult;
+import org.asarenski.JavaCraps.core.Simulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures complete simulated sessions, the unit of work for batch simulation jobs,
+ * comparing the object-based {@link Simulator} with the array-based {@link BatchSimulator}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SimulatorBenchmark {
+    private static final int INITIAL_BALANCE = 100;
+    private static final int BET = 10;
+    private static final int MAX_ROUNDS = 1000;
+    private static final int SESSIONS = 1024;
+    private static final int LANES = 256;
+
+    private Simulator simulator;
+    private BatchSimulator batchSimulator;
+
+    @Setup
+    public void setUp() {
+        simulator = new Simulator(INITIAL_BALANCE, new FlatBetStrategy(BET), MAX_ROUNDS,
+                new Dice(DiceAlgorithm.DEFAULT.create(42L)));
+        batchSimulator = new BatchSimulator(INITIAL_BALANCE, BET, MAX_ROUNDS, LANES,
+                DiceAlgorithm.DEFAULT.create(42L));
+    }
+
+    @Benchmark
+    public SimulationResult session() {
+        SimulationResult result = new SimulationResult();
+        simulator.playSession(result);
+        return result;
+    }
+
+    @Benchmark
+    public SimulationResult objectSessions() {
+        return simulator.run(SESSIONS);
+    }
+
+    @Benchmark
+    public SimulationResult batchSessions() {
+        return batchSimulator.run(SESSIONS);
+    }
+}
@@ -0,0 +1,85 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.TableEngine;
+import org.asarenski.JavaCraps.core.Wager;
+import org.asarenski.JavaCraps.core.WagerLedger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one shared roll settled across every seat of a {@link TableEngine} with the same
+ * players each rolling their own dice, with every player keeping the 6 and 8 placed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TableEngineBenchmark {
+    private static final int BET = 12;
+
+    @Param({"1", "16"})
+    private int seats;
+
+    private TableEngine table;
+    private WagerLedger[] ledgers;
+    private WagerLedger[] soloLedgers;
+    private Dice[] soloDice;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // Bankrolls this large cannot be exhausted within an iteration
+        table = new TableEngine(new Dice(DiceAlgorithm.SPLITMIX64.create(42L)), seats);
+        ledgers = new WagerLedger[seats];
+        soloLedgers = new WagerLedger[seats];
+        soloDice = new Dice[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            ledgers[seat] = table.getLedger(table.sit(new Player("Seat-" + seat, Integer.MAX_VALUE / 2)));
+            soloLedgers[seat] = new WagerLedger(new Player("Solo-" + seat, Integer.MAX_VALUE / 2));
+            soloDice[seat] = new Dice(DiceAlgorithm.SPLITMIX64.create(seat));
+        }
+    }
+
+    private static void placeSixAndEight(WagerLedger ledger) {
+        if (!ledger.isActive(Wager.PLACE_6)) {
+            ledger.place(Wager.PLACE_6, BET);
+        }
+        if (!ledger.isActive(Wager.PLACE_8)) {
+            ledger.place(Wager.PLACE_8, BET);
+        }
+    }
+
+    @Benchmark
+    public int sharedRoll() {
+        for (WagerLedger ledger : ledgers) {
+            placeSixAndEight(ledger);
+        }
+        return table.roll();
+    }
+
+    @Benchmark
+    public int independentRolls() {
+        int sum = 0;
+        for (int seat = 0; seat < seats; seat++) {
+            placeSixAndEight(soloLedgers[seat]);
+            sum += soloLedgers[seat].resolve(soloDice[seat].roll());
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,75 @@
+package org.asarenski.JavaCraps.benchmarks;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.Wager;
+import org.asarenski.JavaCraps.core.WagerLedger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WagerLedger#resolve(int)} on a busy table: line bets with odds, come bets
+ * and every place bet, topped up after each roll.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WagerLedgerBenchmark {
+    private static final int BET = 30;
+    private static final Wager[] PLACE_BETS = {
+        Wager.PLACE_4, Wager.PLACE_5, Wager.PLACE_6, Wager.PLACE_8, Wager.PLACE_9, Wager.PLACE_10
+    };
+
+    private WagerLedger ledger;
+    private Dice dice;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // A bankroll this large cannot be exhausted within an iteration
+        ledger = new WagerLedger(new Player("Benchmark", Integer.MAX_VALUE / 2));
+        dice = new Dice(DiceAlgorithm.SPLITMIX64.create(42L));
+    }
+
+    @Benchmark
+    public int resolve() {
+        return ledger.resolve(dice.roll());
+    }
+
+    @Benchmark
+    public int resolveBusyTable() {
+        if (ledger.getPoint() == 0) {
+            if (!ledger.isActive(Wager.PASS)) {
+                ledger.place(Wager.PASS, BET);
+                ledger.place(Wager.DONT_PASS, BET);
+            }
+        } else {
+            if (!ledger.isActive(Wager.PASS_ODDS)) {
+                ledger.place(Wager.PASS_ODDS, BET);
+            }
+            if (!ledger.isActive(Wager.COME)) {
+                ledger.place(Wager.COME, BET);
+            }
+        }
+        for (Wager wager : PLACE_BETS) {
+            if (!ledger.isActive(wager)) {
+                ledger.place(wager, BET);
+            }
+        }
+        return ledger.resolve(dice.roll());
+    }
+}
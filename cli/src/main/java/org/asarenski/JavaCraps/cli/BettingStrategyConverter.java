@@ -0,0 +1,21 @@
+package org.asarenski.JavaCraps.cli;
+
+import org.asarenski.JavaCraps.core.BettingStrategies;
+import org.asarenski.JavaCraps.core.BettingStrategy;
+import picocli.CommandLine;
+
+/**
+ * Converts a {@code --bet-strategy} spec such as {@code martingale:10:640} into a
+ * {@link BettingStrategy} from the {@link BettingStrategies} registry.
+ */
+public class BettingStrategyConverter implements CommandLine.ITypeConverter<BettingStrategy> {
+
+    @Override
+    public BettingStrategy convert(String value) {
+        try {
+            return BettingStrategies.create(value);
+        } catch (IllegalArgumentException e) {
+            throw new CommandLine.TypeConversionException(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.asarenski.JavaCraps.cli;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Reads player commands one line at a time and classifies them directly from the input bytes.
+ * Unlike a {@code Scanner}, no strings are created and no regular expressions run, so scripted
+ * input with millions of commands is read at stream speed.
+ * Surrounding whitespace is ignored and keywords are matched case-insensitively; the end of
+ * the input is reported as {@link Command#END}, which callers treat as quitting.
+ */
+public final class CommandReader implements Closeable {
+    private static final int BUFFER_SIZE = 8192;
+    private static final byte[] QUIT = {'q', 'u', 'i', 't'};
+    private static final byte[] RULES = {'r', 'u', 'l', 'e', 's'};
+    private static final byte[] YES = {'y', 'e', 's'};
+    private static final byte[] NO = {'n', 'o'};
+    private static final byte[] Y = {'y'};
+    private static final byte[] N = {'n'};
+
+    /**
+     * The kinds of line a player can enter.
+     */
+    public enum Command {
+        /** A blank line. */
+        EMPTY,
+        /** {@code quit} */
+        QUIT,
+        /** {@code rules} */
+        RULES,
+        /** {@code yes} or {@code y} */
+        YES,
+        /** {@code no} or {@code n} */
+        NO,
+        /** An integer, available from {@link #getNumber()}. */
+        NUMBER,
+        /** Anything else. */
+        OTHER,
+        /** The end of the input. */
+        END
+    }
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[64];
+    private int number;
+
+    /**
+     * Creates a new CommandReader.
+     * @param in The input stream to read from; it is closed by {@link #close()}
+     */
+    public CommandReader(InputStream in) {
+        this.in = in;
+    }
+
+    /**
+     * Reads and classifies the next line.
+     * @return the kind of command on the line, or {@link Command#END} if the input is exhausted
+     * @throws UncheckedIOException if the input cannot be read
+     */
+    public Command next() {
+        int length = readLine();
+        if (length < 0) {
+            return Command.END;
+        }
+        int start = 0;
+        while (start < length && (line[start] & 0xFF) <= ' ') {
+            start++;
+        }
+        while (length > start && (line[length - 1] & 0xFF) <= ' ') {
+            length--;
+        }
+        if (start == length) {
+            return Command.EMPTY;
+        }
+        if (matches(QUIT, start, length)) {
+            return Command.QUIT;
+        }
+        if (matches(RULES, start, length)) {
+            return Command.RULES;
+        }
+        if (matches(YES, start, length) || matches(Y, start, length)) {
+            return Command.YES;
+        }
+        if (matches(NO, start, length) || matches(N, start, length)) {
+            return Command.NO;
+        }
+        return parseNumber(start, length) ? Command.NUMBER : Command.OTHER;
+    }
+
+    /**
+     * Gets the value of the last line read as {@link Command#NUMBER}.
+     * @return the number entered
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Copies the next line, without its terminator, into {@link #line}.
+     * @return the length of the line, or -1 at the end of the input
+     */
+    private int readLine() {
+        int length = 0;
+        while (true) {
+            if (position == limit && !fill()) {
+                return length == 0 ? -1 : length;
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int count = position - start;
+            if (length + count > line.length) {
+                byte[] grown = new byte[Math.max(line.length * 2, length + count)];
+                System.arraycopy(line, 0, grown, 0, length);
+                line = grown;
+            }
+            System.arraycopy(buffer, start, line, length, count);
+            length += count;
+            if (position < limit) {
+                position++; // Consume the '\n'
+                return length;
+            }
+        }
+    }
+
+    private boolean fill() {
+        try {
+            int read;
+            do {
+                read = in.read(buffer, 0, buffer.length);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Compares a line segment with a lower-case keyword, ignoring ASCII case.
+     */
+    private boolean matches(byte[] keyword, int start, int end) {
+        if (end - start != keyword.length) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length; i++) {
+            if ((line[start + i] | 0x20) != keyword[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses a line segment as an optionally signed decimal int, as {@link Integer#parseInt(String)} does.
+     * @return true if the segment is a valid int, stored in {@link #number}
+     */
+    private boolean parseNumber(int start, int end) {
+        boolean negative = line[start] == '-';
+        if (negative || line[start] == '+') {
+            start++;
+        }
+        if (start == end) {
+            return false;
+        }
+        long value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9) {
+                return false;
+            }
+            value = value * 10 + digit;
+            if (value > Integer.MAX_VALUE + 1L) {
+                return false;
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            return false;
+        }
+        number = (int) value;
+        return true;
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
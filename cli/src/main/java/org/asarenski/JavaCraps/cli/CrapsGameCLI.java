@@ -1,15 +1,24 @@
 package org.asarenski.JavaCraps.cli;
 
 import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.core.BettingStrategy;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
 import org.asarenski.JavaCraps.core.RoundEngine;
+import org.asarenski.JavaCraps.core.JournalHeader;
 import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RollJournal;
 import org.asarenski.JavaCraps.core.RoundState;
+import org.asarenski.JavaCraps.core.SeededDiceSource;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.ParameterException;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
 
 @Command(
     name = "craps",
@@ -25,8 +34,40 @@ public class CrapsGameCLI implements Runnable {
     @Option(names = {"-b", "--bankroll"}, description = "Initial bankroll (must be positive)", defaultValue = "100")
     private int initialBankroll;
 
-    private final TerminalView view;
+    @Option(names = {"--rng"}, description = "Dice random algorithm: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})",
+            defaultValue = "L64X128_MIX")
+    private DiceAlgorithm diceAlgorithm;
+
+    @Option(names = {"--seed"}, description = "Seed for reproducible dice rolls")
+    private Long seed;
+
+    @Option(names = {"--journal"}, description = "Record every roll to this binary journal file")
+    private Path journalPath;
+
+    @Option(names = {"--buffered-output"},
+            description = "Hold console output and write it once per round, for scripted or piped play")
+    private boolean bufferedOutput;
+
+    @Option(names = {"--autoplay"}, description = "Play without prompting, betting with --bet-strategy")
+    private boolean autoplay;
+
+    @Option(names = {"--rounds"}, description = "Maximum number of rounds to autoplay (default: ${DEFAULT-VALUE})",
+            defaultValue = "1000")
+    private int rounds;
+
+    @Option(names = {"--bet-strategy"}, converter = BettingStrategyConverter.class,
+            description = "Autoplay betting strategy: flat[:amount], martingale[:base[:limit]], "
+                + "paroli[:base[:wins]] or kelly[:fraction] (default: ${DEFAULT-VALUE})",
+            defaultValue = "flat")
+    private BettingStrategy betStrategy;
+
+    @Option(names = {"-q", "--quiet"}, description = "Show only the autoplay summary")
+    private boolean quiet;
+
+    private final InputStream inputStream;
+    private TerminalView view;
     private GameController controller;
+    private SeededDiceSource diceSource;
 
     public CrapsGameCLI() {
         this(System.in);
@@ -37,7 +78,7 @@ public class CrapsGameCLI implements Runnable {
      * @param inputStream The input stream to read from
      */
     public CrapsGameCLI(InputStream inputStream) {
-        this.view = new TerminalView(inputStream);
+        this.inputStream = inputStream;
     }
 
     public static void main(String[] args) {
@@ -50,20 +91,45 @@ public class CrapsGameCLI implements Runnable {
         if (initialBankroll <= 0) {
             throw new ParameterException(new CommandLine(this), "Invalid bankroll value: must be positive");
         }
-        try {
-            Player player = new Player(playerName, initialBankroll);
-            this.controller = new GameController(player);
-            view.showWelcome();
-            playGame();
+        if (rounds <= 0) {
+            throw new ParameterException(new CommandLine(this), "Invalid rounds value: must be positive");
+        }
+        Player player = new Player(playerName, initialBankroll);
+        this.view = bufferedOutput ? new TerminalView(inputStream, System.out, true) : new TerminalView(inputStream);
+        this.controller = new GameController(player, createDice());
+        try (RollJournal journal = openJournal()) {
+            if (autoplay) {
+                autoplay();
+            } else {
+                view.showWelcome();
+                playGame();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         } finally {
             view.close();
         }
     }
 
+    private RollJournal openJournal() throws IOException {
+        if (journalPath == null) {
+            return null;
+        }
+        RollJournal journal = new RollJournal(journalPath, new JournalHeader(diceAlgorithm, diceSource.getSeed(), initialBankroll));
+        controller.getRoundEngine().addRollListener(journal);
+        return journal;
+    }
+
+    private Dice createDice() {
+        diceSource = seed == null ? diceAlgorithm.create() : diceAlgorithm.create(seed);
+        return new Dice(diceSource);
+    }
+
     private void playGame() {
         while (true) {
             playRound();
-            
+            view.flush();
+
             // Check if game is over
             if (controller.isGameSessionOver()) {
                 view.showGameOutcome(
@@ -82,6 +148,46 @@ public class CrapsGameCLI implements Runnable {
         }
     }
 
+    /**
+     * Plays up to the configured number of rounds without reading input, betting with the
+     * configured strategy, and shows a summary at the end.
+     */
+    private void autoplay() {
+        Player player = controller.getPlayer();
+        int wins = 0;
+        int losses = 0;
+        long rollCount = 0;
+        betStrategy.reset();
+        while (wins + losses < rounds && !controller.isGameSessionOver()) {
+            int bet = Math.min(betStrategy.nextBet(player.getBalance()), player.getBalance());
+            if (!controller.startNewRound(bet)) {
+                break;
+            }
+            do {
+                boolean isComeOutRoll = controller.isComeOutRoll();
+                controller.roll();
+                rollCount++;
+                if (!quiet) {
+                    view.showRollResult(controller.getDie1(), controller.getDie2(), isComeOutRoll, controller.getPoint());
+                }
+            } while (!controller.isRoundOver());
+
+            boolean won = controller.isWin();
+            betStrategy.onRoundResolved(won, bet);
+            if (won) {
+                wins++;
+            } else {
+                losses++;
+            }
+            if (!quiet) {
+                view.showRoundOutcome(won, bet);
+                view.flush();
+            }
+        }
+        controller.resetRound();
+        view.showAutoplaySummary(wins, losses, rollCount, initialBankroll, player.getBalance());
+    }
+
     private void playRound() {
         view.displayGameState(controller.getPlayer(), controller.getRoundState());
         
@@ -107,9 +213,8 @@ public class CrapsGameCLI implements Runnable {
                 // Check if the current round is a come out roll
                 boolean isComeOutRoll = controller.isComeOutRoll();
                 // Roll the dice and get values
-                int roll = controller.roll();
-                int[] diceValues = controller.getRoundEngine().getDiceValues();
-                view.showRollResult(diceValues[0], diceValues[1], isComeOutRoll, controller.getPoint());
+                controller.roll();
+                view.showRollResult(controller.getDie1(), controller.getDie2(), isComeOutRoll, controller.getPoint());
                 
                 if (controller.isRoundOver()) {
                     handleRoundOutcome(bet);
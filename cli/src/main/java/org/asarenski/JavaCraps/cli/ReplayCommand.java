@@ -0,0 +1,64 @@
+package org.asarenski.JavaCraps.cli;
+
+import org.asarenski.JavaCraps.core.ReplayEngine;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+import picocli.CommandLine.Spec;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+@Command(
+    name = "replay",
+    mixinStandardHelpOptions = true,
+    description = "Replay a recorded roll journal without playing it on the terminal"
+)
+public class ReplayCommand implements Callable<Integer> {
+
+    @Parameters(index = "0", description = "Journal file written with --journal")
+    private Path journalPath;
+
+    @Option(names = {"--round"}, description = "Show the state at the start of this round instead of the end")
+    private Long round;
+
+    @Option(names = {"--verify"}, description = "Check that the recorded rolls match the recorded seed")
+    private boolean verify;
+
+    @Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @Override
+    public Integer call() throws IOException {
+        PrintWriter out = spec.commandLine().getOut();
+        try (ReplayEngine replay = new ReplayEngine(journalPath)) {
+            if (round != null) {
+                if (round < 0 || round > replay.getRoundCount()) {
+                    throw new CommandLine.ParameterException(spec.commandLine(),
+                        "Round must be between 0 and " + replay.getRoundCount());
+                }
+                replay.seek(round);
+            } else {
+                replay.replayToEnd();
+            }
+            out.printf("Rounds: %d, rolls: %d%n", replay.getRoundCount(), replay.getRollCount());
+            out.printf("Round %d: Balance: $%d%n", replay.getRound(), replay.getPlayer().getBalance());
+
+            if (verify) {
+                long mismatch = replay.verifySeed();
+                if (mismatch >= 0) {
+                    out.printf("Roll %d does not match seed %d%n", mismatch, replay.getHeader().seed());
+                    return 1;
+                }
+                out.printf("All rolls match seed %d%n", replay.getHeader().seed());
+            }
+            return 0;
+        } catch (IllegalStateException e) {
+            spec.commandLine().getErr().println(e.getMessage());
+            return 1;
+        }
+    }
+}
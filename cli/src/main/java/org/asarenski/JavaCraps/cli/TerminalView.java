@@ -3,20 +3,56 @@ package org.asarenski.JavaCraps.cli;
 import org.asarenski.JavaCraps.core.RoundState;
 import org.asarenski.JavaCraps.core.Player;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
-import java.util.Scanner;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 
 /**
  * Handles all terminal-based user interactions and display formatting for the Craps game.
+ * Each message is built in a reusable {@link StringBuilder} frame. By default every frame is
+ * written to {@code System.out} in one call as soon as it is complete. In buffered mode frames
+ * accumulate until {@link #flush()}, which the CLI calls once per round, so scripted and piped
+ * runs are not limited by console writes; prompts are then not shown before input is read.
  */
 public class TerminalView {
     private static final String SEPARATOR = "====================";
+    private static final String NEWLINE = System.lineSeparator();
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
     public static final String ANSI_GREEN = "\u001B[32m";
     public static final String ANSI_RED = "\u001B[31m";
     public static final String ANSI_YELLOW = "\u001B[33m";
     public static final String ANSI_RESET = "\u001B[0m";
 
-    private final Scanner scanner;
+    // Colored " = <total> (total)" endings of a roll line, indexed by color and then by total
+    private static final int GREEN = 0;
+    private static final int RED = 1;
+    private static final int YELLOW = 2;
+    private static final String[][] COLORED_TOTALS = new String[3][13];
+    private static final String INVALID_BET = ANSI_RED + "Invalid bet amount. Please try again." + ANSI_RESET + NEWLINE;
+    private static final String INVALID_NUMBER = ANSI_RED + "Please enter a valid number." + ANSI_RESET + NEWLINE;
+    private static final String YES_OR_NO = ANSI_RED + "Please enter 'yes' or 'no'" + ANSI_RESET + NEWLINE;
+    private static final String WIN_PREFIX = ANSI_GREEN + "You win $";
+    private static final String LOSE_PREFIX = ANSI_RED + "You lose $";
+    private static final String OUTCOME_SUFFIX = "!" + ANSI_RESET + NEWLINE;
+
+    static {
+        String[] colors = {ANSI_GREEN, ANSI_RED, ANSI_YELLOW};
+        for (int color = 0; color < colors.length; color++) {
+            for (int total = 2; total <= 12; total++) {
+                COLORED_TOTALS[color][total] = " = " + colors[color] + total + ANSI_RESET + " (total)" + NEWLINE;
+            }
+        }
+    }
+
+    private final CommandReader reader;
+    private final Writer out; // null writes each frame to the current System.out
+    private final boolean buffered;
+    private final StringBuilder frame = new StringBuilder(256);
+    private char[] chars = new char[256];
 
     /**
      * Creates a new TerminalView with System.in as the input source.
@@ -30,17 +66,32 @@ public class TerminalView {
      * @param inputStream The input stream to read from
      */
     public TerminalView(InputStream inputStream) {
-        this.scanner = new Scanner(inputStream);
+        this.reader = new CommandReader(inputStream);
+        this.out = null;
+        this.buffered = false;
+    }
+
+    /**
+     * Creates a new TerminalView with custom input and output.
+     * @param inputStream The input stream to read from
+     * @param outputStream The output stream to write to; it is flushed but not closed by {@link #close()}
+     * @param buffered true to hold output until {@link #flush()}, false to write every message immediately
+     */
+    public TerminalView(InputStream inputStream, OutputStream outputStream, boolean buffered) {
+        this.reader = new CommandReader(inputStream);
+        this.out = new BufferedWriter(new OutputStreamWriter(outputStream), OUTPUT_BUFFER_SIZE);
+        this.buffered = buffered;
     }
 
     /**
      * Displays the welcome message and game rules.
      */
     public void showWelcome() {
-        System.out.println(SEPARATOR);
-        System.out.println("Welcome to JavaCraps!");
-        System.out.println("Type 'rules' at any time to view game rules, or 'quit' to exit.");
-        System.out.println(SEPARATOR);
+        frame.append(SEPARATOR).append(NEWLINE)
+            .append("Welcome to JavaCraps!").append(NEWLINE)
+            .append("Type 'rules' at any time to view game rules, or 'quit' to exit.").append(NEWLINE)
+            .append(SEPARATOR).append(NEWLINE);
+        endFrame();
     }
 
     /**
@@ -49,62 +100,67 @@ public class TerminalView {
      * @param roundState The current game state
      */
     public void displayGameState(Player player, RoundState roundState) {
-        System.out.println("\nGame Status:");
-        System.out.println("Balance: $" + player.getBalance());
+        frame.append("\nGame Status:").append(NEWLINE)
+            .append("Balance: $").append(player.getBalance()).append(NEWLINE);
         if (roundState.getCurrentPhase() == RoundState.Phase.POINT_PHASE) {
-            System.out.println("Point: " + roundState.getPoint());
+            frame.append("Point: ").append(roundState.getPoint()).append(NEWLINE);
         }
-        System.out.println(SEPARATOR);
+        frame.append(SEPARATOR).append(NEWLINE);
+        endFrame();
     }
 
     /**
      * Prompts for and reads a bet amount from the user.
      * @param minimumBet The minimum allowed bet
      * @param balance The player's current balance
-     * @return The bet amount entered by the user, or -1 for quit
+     * @return The bet amount entered by the user, or -1 for quit or the end of the input
      */
     public int getBetAmount(int minimumBet, int balance) {
         while (true) {
-            System.out.printf("Enter your bet (minimum $%d, maximum $%d): ", minimumBet, balance);
-            String input = scanner.nextLine().trim().toLowerCase();
-            
-            if (input.equals("quit")) {
+            frame.append("Enter your bet (minimum $").append(minimumBet)
+                .append(", maximum $").append(balance).append("): ");
+            endFrame();
+            CommandReader.Command command = reader.next();
+
+            if (command == CommandReader.Command.QUIT || command == CommandReader.Command.END) {
                 return -1;
             }
-            if (input.equals("rules")) {
+            if (command == CommandReader.Command.RULES) {
                 showRules();
                 continue;
             }
-            
-            try {
-                int bet = Integer.parseInt(input);
+
+            if (command == CommandReader.Command.NUMBER) {
+                int bet = reader.getNumber();
                 if (bet >= minimumBet && bet <= balance) {
                     return bet;
                 }
-                System.out.println(ANSI_RED + "Invalid bet amount. Please try again." + ANSI_RESET);
-            } catch (NumberFormatException e) {
-                System.out.println(ANSI_RED + "Please enter a valid number." + ANSI_RESET);
+                frame.append(INVALID_BET);
+            } else {
+                frame.append(INVALID_NUMBER);
             }
+            endFrame();
         }
     }
 
     /**
      * Prompts the user to press Enter to roll the dice.
-     * @return true to roll, false to quit
+     * @return true to roll, false to quit or at the end of the input
      */
     public boolean promptForRoll() {
         while (true) {
-            System.out.print("Press Enter to roll the dice (or type 'quit' to exit): ");
-            String input = scanner.nextLine().trim().toLowerCase();
-            
-            if (input.equals("quit")) {
+            frame.append("Press Enter to roll the dice (or type 'quit' to exit): ");
+            endFrame();
+            CommandReader.Command command = reader.next();
+
+            if (command == CommandReader.Command.QUIT || command == CommandReader.Command.END) {
                 return false;
             }
-            if (input.equals("rules")) {
+            if (command == CommandReader.Command.RULES) {
                 showRules();
                 continue;
             }
-            if (input.isEmpty()) {
+            if (command == CommandReader.Command.EMPTY) {
                 return true;
             }
         }
@@ -114,31 +170,32 @@ public class TerminalView {
      * Displays the result of a dice roll.
      * @param die1 First die value
      * @param die2 Second die value
-     * @param roundState Current game state
+     * @param isComeOutRoll Whether the roll was the come-out roll
+     * @param point The point in effect, ignored on the come-out roll
      */
     public void showRollResult(int die1, int die2, boolean isComeOutRoll, int point) {
         int total = die1 + die2;
-        String totalColor;
+        int color;
         if (isComeOutRoll) {
             if (total == 7 || total == 11) {
-                totalColor = ANSI_GREEN;  // Natural win
+                color = GREEN;  // Natural win
             } else if (total == 2 || total == 3 || total == 12) {
-                totalColor = ANSI_RED;    // Craps loss
+                color = RED;    // Craps loss
             } else {
-                totalColor = ANSI_YELLOW; // Point established
+                color = YELLOW; // Point established
             }
         } else { // Point Phase
             if (total == point) {
-                totalColor = ANSI_GREEN;  // Made the point
+                color = GREEN;  // Made the point
             } else if (total == 7) {
-                totalColor = ANSI_RED;    // Seven out
+                color = RED;    // Seven out
             } else {
-                totalColor = ANSI_YELLOW; // Continue rolling
+                color = YELLOW; // Continue rolling
             }
         }
-        
-        System.out.printf("Roll: %d + %d = %s%d%s (total)%n", 
-            die1, die2, totalColor, total, ANSI_RESET);
+
+        frame.append("Roll: ").append(die1).append(" + ").append(die2).append(COLORED_TOTALS[color][total]);
+        endFrame();
     }
 
     /**
@@ -147,27 +204,26 @@ public class TerminalView {
      * @param amount The amount won or lost
      */
     public void showRoundOutcome(boolean won, int amount) {
-        String message = won ? 
-            ANSI_GREEN + "You win $" + amount + "!" :
-            ANSI_RED + "You lose $" + amount + "!";
-        System.out.println(message + ANSI_RESET);
+        frame.append(won ? WIN_PREFIX : LOSE_PREFIX).append(amount).append(OUTCOME_SUFFIX);
+        endFrame();
     }
 
     /**
      * Displays the game rules.
      */
     public void showRules() {
-        System.out.println(SEPARATOR);
-        System.out.println("CRAPS RULES:");
-        System.out.println("1. Come Out Roll:");
-        System.out.println("   - Roll 7 or 11: You WIN");
-        System.out.println("   - Roll 2, 3, or 12: You LOSE");
-        System.out.println("   - Roll 4, 5, 6, 8, 9, or 10: Sets the POINT");
-        System.out.println("2. Point Phase:");
-        System.out.println("   - Roll your point again: You WIN");
-        System.out.println("   - Roll a 7: You LOSE");
-        System.out.println("   - Any other roll: Continue rolling");
-        System.out.println(SEPARATOR);
+        frame.append(SEPARATOR).append(NEWLINE)
+            .append("CRAPS RULES:").append(NEWLINE)
+            .append("1. Come Out Roll:").append(NEWLINE)
+            .append("   - Roll 7 or 11: You WIN").append(NEWLINE)
+            .append("   - Roll 2, 3, or 12: You LOSE").append(NEWLINE)
+            .append("   - Roll 4, 5, 6, 8, 9, or 10: Sets the POINT").append(NEWLINE)
+            .append("2. Point Phase:").append(NEWLINE)
+            .append("   - Roll your point again: You WIN").append(NEWLINE)
+            .append("   - Roll a 7: You LOSE").append(NEWLINE)
+            .append("   - Any other roll: Continue rolling").append(NEWLINE)
+            .append(SEPARATOR).append(NEWLINE);
+        endFrame();
     }
 
     /**
@@ -176,32 +232,54 @@ public class TerminalView {
      * @param finalBalance The player's final balance
      */
     public void showGameOutcome(boolean hasWon, int finalBalance) {
-        System.out.println(SEPARATOR);
+        frame.append(SEPARATOR).append(NEWLINE);
         if (hasWon) {
-            System.out.println(ANSI_GREEN + "Congratulations! You've won the game!");
-            System.out.printf("Final balance: $%d%n", finalBalance);
+            frame.append(ANSI_GREEN).append("Congratulations! You've won the game!").append(NEWLINE);
         } else {
-            System.out.println(ANSI_RED + "Game Over! Better luck next time!");
-            System.out.printf("Final balance: $%d%n", finalBalance);
+            frame.append(ANSI_RED).append("Game Over! Better luck next time!").append(NEWLINE);
         }
-        System.out.println(ANSI_RESET + SEPARATOR);
+        frame.append("Final balance: $").append(finalBalance).append(NEWLINE)
+            .append(ANSI_RESET).append(SEPARATOR).append(NEWLINE);
+        endFrame();
+    }
+
+    /**
+     * Displays the summary of an autoplay run.
+     * @param wins The number of rounds won
+     * @param losses The number of rounds lost
+     * @param rolls The number of dice rolls
+     * @param initialBalance The balance before the first round
+     * @param finalBalance The balance after the last round
+     */
+    public void showAutoplaySummary(int wins, int losses, long rolls, int initialBalance, int finalBalance) {
+        int net = finalBalance - initialBalance;
+        frame.append(SEPARATOR).append(NEWLINE)
+            .append("Rounds played: ").append(wins + losses)
+            .append(" (").append(wins).append(" won, ").append(losses).append(" lost)").append(NEWLINE)
+            .append("Rolls: ").append(rolls).append(NEWLINE)
+            .append("Final balance: $").append(finalBalance).append(NEWLINE)
+            .append("Net: ").append(net < 0 ? "-$" : "+$").append(Math.abs(net)).append(NEWLINE)
+            .append(SEPARATOR).append(NEWLINE);
+        endFrame();
     }
 
     /**
      * Asks if the player wants to play another round.
-     * @return true if yes, false if no
+     * @return true if yes, false if no or at the end of the input
      */
     public boolean askPlayAgain() {
         while (true) {
-            System.out.print("Would you like to play another round? (yes/no): ");
-            String input = scanner.nextLine().trim().toLowerCase();
-            if (input.equals("yes") || input.equals("y")) {
+            frame.append("Would you like to play another round? (yes/no): ");
+            endFrame();
+            CommandReader.Command command = reader.next();
+            if (command == CommandReader.Command.YES) {
                 return true;
             }
-            if (input.equals("no") || input.equals("n")) {
+            if (command == CommandReader.Command.NO || command == CommandReader.Command.END) {
                 return false;
             }
-            System.out.println(ANSI_RED + "Please enter 'yes' or 'no'" + ANSI_RESET);
+            frame.append(YES_OR_NO);
+            endFrame();
         }
     }
 
@@ -215,9 +293,43 @@ public class TerminalView {
     }
 
     /**
-     * Closes the scanner.
+     * Completes a message, writing it out unless output is buffered.
+     */
+    private void endFrame() {
+        if (!buffered) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes all pending output.
+     */
+    public void flush() {
+        if (out == null) {
+            System.out.print(frame);
+            System.out.flush();
+            frame.setLength(0);
+            return;
+        }
+        int length = frame.length();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+        }
+        frame.getChars(0, length, chars, 0);
+        frame.setLength(0);
+        try {
+            out.write(chars, 0, length);
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes all pending output and closes the input.
      */
     public void close() {
-        scanner.close();
+        flush();
+        reader.close();
     }
-} 
\ No newline at end of file
+}
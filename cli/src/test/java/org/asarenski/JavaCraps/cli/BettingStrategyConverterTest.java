@@ -0,0 +1,42 @@
+package org.asarenski.JavaCraps.cli;
+
+import org.asarenski.JavaCraps.core.FlatBetStrategy;
+import org.asarenski.JavaCraps.core.KellyFractionStrategy;
+import org.asarenski.JavaCraps.core.MartingaleStrategy;
+import org.asarenski.JavaCraps.core.ParoliStrategy;
+import org.asarenski.JavaCraps.core.Player;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BettingStrategyConverterTest {
+    private final BettingStrategyConverter converter = new BettingStrategyConverter();
+
+    @Test
+    void testFlatDefaultsToMinimumBet() {
+        FlatBetStrategy strategy = assertInstanceOf(FlatBetStrategy.class, converter.convert("flat"));
+        assertEquals(Player.getMinimumBet(), strategy.getAmount());
+    }
+
+    @Test
+    void testFlatWithAmount() {
+        FlatBetStrategy strategy = assertInstanceOf(FlatBetStrategy.class, converter.convert("FLAT:25"));
+        assertEquals(25, strategy.getAmount());
+    }
+
+    @Test
+    void testRegisteredStrategies() {
+        assertInstanceOf(MartingaleStrategy.class, converter.convert("martingale:10:640"));
+        assertInstanceOf(ParoliStrategy.class, converter.convert("paroli"));
+        assertInstanceOf(KellyFractionStrategy.class, converter.convert("kelly:0.1"));
+    }
+
+    @Test
+    void testInvalidValuesAreRejected() {
+        assertThrows(CommandLine.TypeConversionException.class, () -> converter.convert("martin"));
+        assertThrows(CommandLine.TypeConversionException.class, () -> converter.convert("flat:abc"));
+        assertThrows(CommandLine.TypeConversionException.class, () -> converter.convert("flat:1"));
+        assertThrows(CommandLine.TypeConversionException.class, () -> converter.convert("kelly:2"));
+    }
+}
@@ -0,0 +1,100 @@
+package org.asarenski.JavaCraps.cli;
+
+import org.asarenski.JavaCraps.cli.CommandReader.Command;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CommandReaderTest {
+
+    private static CommandReader reader(String input) {
+        return new CommandReader(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void testKeywordsIgnoreCaseAndWhitespace() {
+        CommandReader reader = reader("quit\n  RULES \r\nYes\ny\nNO\n\tn\n\n   \nquitter\n");
+        assertEquals(Command.QUIT, reader.next());
+        assertEquals(Command.RULES, reader.next());
+        assertEquals(Command.YES, reader.next());
+        assertEquals(Command.YES, reader.next());
+        assertEquals(Command.NO, reader.next());
+        assertEquals(Command.NO, reader.next());
+        assertEquals(Command.EMPTY, reader.next());
+        assertEquals(Command.EMPTY, reader.next());
+        assertEquals(Command.OTHER, reader.next());
+        assertEquals(Command.END, reader.next());
+        assertEquals(Command.END, reader.next());
+    }
+
+    @Test
+    void testNumbersMatchIntegerParseInt() {
+        String[] inputs = {"0", "50", " 10 ", "-5", "+7", "2147483647", "-2147483648",
+            "2147483648", "-2147483649", "99999999999", "12a", "-", "+", "1 0", "ten"};
+        StringBuilder text = new StringBuilder();
+        for (String input : inputs) {
+            text.append(input).append('\n');
+        }
+        CommandReader reader = reader(text.toString());
+        for (String input : inputs) {
+            Command command = reader.next();
+            try {
+                int expected = Integer.parseInt(input.trim());
+                assertEquals(Command.NUMBER, command, input);
+                assertEquals(expected, reader.getNumber(), input);
+            } catch (NumberFormatException e) {
+                assertEquals(Command.OTHER, command, input);
+            }
+        }
+    }
+
+    @Test
+    void testLastLineWithoutTerminator() {
+        CommandReader reader = reader("10\n25");
+        assertEquals(Command.NUMBER, reader.next());
+        assertEquals(10, reader.getNumber());
+        assertEquals(Command.NUMBER, reader.next());
+        assertEquals(25, reader.getNumber());
+        assertEquals(Command.END, reader.next());
+    }
+
+    @Test
+    void testLinesSpanningReads() {
+        String longLine = "x".repeat(20000);
+        // Deliver one byte per read to exercise refilling in the middle of a line
+        byte[] bytes = (longLine + "\nquit\n" + "  42\n").getBytes(StandardCharsets.UTF_8);
+        InputStream trickle = new InputStream() {
+            private int index;
+
+            @Override
+            public int read() {
+                return index < bytes.length ? bytes[index++] : -1;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                if (index == bytes.length) {
+                    return -1;
+                }
+                b[off] = bytes[index++];
+                return 1;
+            }
+        };
+        CommandReader reader = new CommandReader(trickle);
+        assertEquals(Command.OTHER, reader.next());
+        assertEquals(Command.QUIT, reader.next());
+        assertEquals(Command.NUMBER, reader.next());
+        assertEquals(42, reader.getNumber());
+        assertEquals(Command.END, reader.next());
+    }
+
+    @Test
+    void testNonAsciiInputIsOther() {
+        assertEquals(Command.OTHER, reader("quít\n").next());
+        assertEquals(Command.OTHER, reader("１０\n").next());
+    }
+}
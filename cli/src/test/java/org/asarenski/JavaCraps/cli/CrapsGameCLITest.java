@@ -2,19 +2,25 @@ package org.asarenski.JavaCraps.cli;
 
 import org.asarenski.JavaCraps.controller.GameController;
 import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.ReplayEngine;
+import org.asarenski.JavaCraps.core.RollJournalReader;
+import org.asarenski.JavaCraps.core.RollListener;
 import org.asarenski.JavaCraps.core.RoundState;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import picocli.CommandLine;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -220,4 +226,96 @@ class CrapsGameCLITest {
         String output = outputStream.toString();
         assertTrue(output.contains("Enter your bet"));
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("CLI should replay the same rolls for the same seed")
+    void testSeededRolls() {
+        String input = "10\n\n\n\n\n\n\n\n\n\n\nn\n";
+        provideInput(input);
+        new CommandLine(new CrapsGameCLI()).execute("--rng", "XOROSHIRO128_PLUS_PLUS", "--seed", "42");
+        String firstOutput = outputStream.toString();
+
+        outputStream.reset();
+        provideInput(input);
+        new CommandLine(new CrapsGameCLI()).execute("--rng", "XOROSHIRO128_PLUS_PLUS", "--seed", "42");
+
+        assertTrue(firstOutput.contains("Roll: "));
+        assertEquals(firstOutput, outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("Buffered output should match unbuffered output")
+    void testBufferedOutput() {
+        String input = "10\n\n\n\n\n\n\n\n\n\n\nn\n";
+        provideInput(input);
+        new CommandLine(new CrapsGameCLI()).execute("--seed", "42");
+        String unbuffered = outputStream.toString();
+
+        outputStream.reset();
+        provideInput(input);
+        new CommandLine(new CrapsGameCLI()).execute("--seed", "42", "--buffered-output");
+
+        assertEquals(unbuffered, outputStream.toString());
+    }
+
+    @Test
+    @DisplayName("Autoplay should play without input and print a summary")
+    void testAutoplay(@TempDir Path dir) throws IOException {
+        Path journal = dir.resolve("auto.journal");
+        int exitCode = new CommandLine(new CrapsGameCLI(InputStream.nullInputStream())).execute(
+            "--autoplay", "--rounds", "20", "--bet-strategy", "flat:5", "--seed", "7", "--journal", journal.toString());
+
+        assertEquals(0, exitCode);
+        String output = outputStream.toString();
+        long rolls = output.lines().filter(line -> line.contains("Roll: ")).count();
+        assertFalse(output.contains("Enter your bet"), "Autoplay should not prompt");
+        assertTrue(output.contains("Rolls: " + rolls + System.lineSeparator()));
+        try (ReplayEngine replay = new ReplayEngine(journal)) {
+            assertEquals(rolls, replay.getRollCount());
+            assertTrue(replay.getRoundCount() <= 20);
+            assertTrue(output.contains("Rounds played: " + replay.getRoundCount() + " "));
+            replay.replayToEnd();
+            assertTrue(output.contains("Final balance: $" + replay.getPlayer().getBalance()));
+        }
+    }
+
+    @Test
+    @DisplayName("Quiet autoplay should print only the summary")
+    void testQuietAutoplay() {
+        new CommandLine(new CrapsGameCLI(InputStream.nullInputStream())).execute(
+            "--autoplay", "--quiet", "--rounds", "100000", "-b", "500");
+
+        String output = outputStream.toString();
+        assertFalse(output.contains("Roll: "));
+        assertFalse(output.contains("Welcome"));
+        assertTrue(output.contains("Rounds played: "));
+        assertTrue(output.contains("Final balance: $"));
+    }
+
+    @Test
+    @DisplayName("CLI should reject an unknown betting strategy")
+    void testUnknownBetStrategy() {
+        int exitCode = new CommandLine(new CrapsGameCLI()).execute("--autoplay", "--bet-strategy", "double-up");
+
+        assertNotEquals(0, exitCode);
+        assertTrue(errorStream.toString().contains("Unknown betting strategy: double-up"));
+    }
+
+    @Test
+    @DisplayName("CLI should record every roll to the journal")
+    void testJournal(@TempDir Path dir) throws IOException {
+        Path journal = dir.resolve("game.journal");
+        provideInput("10\n\n\n\n\n\n\n\n\n\n\nn\n");
+        new CommandLine(new CrapsGameCLI()).execute("--seed", "42", "--journal", journal.toString());
+
+        long rolls = outputStream.toString().lines().filter(line -> line.contains("Roll: ")).count();
+        try (RollJournalReader reader = new RollJournalReader(journal)) {
+            assertEquals(rolls, reader.readAll(RollListener.NONE));
+        }
+        try (ReplayEngine replay = new ReplayEngine(journal)) {
+            assertEquals(42, replay.getHeader().seed());
+            assertEquals(-1, replay.verifySeed(), "Recorded rolls should match the seed");
+            replay.replayToEnd();
+        }
+    }
+}
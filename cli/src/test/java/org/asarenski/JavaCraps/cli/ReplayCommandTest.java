@@ -0,0 +1,68 @@
+package org.asarenski.JavaCraps.cli;
+
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.JournalHeader;
+import org.asarenski.JavaCraps.core.RollJournal;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayCommandTest {
+    @TempDir
+    Path dir;
+
+    private final StringWriter out = new StringWriter();
+
+    private int execute(String... args) {
+        CommandLine cmd = new CommandLine(new ReplayCommand());
+        cmd.setOut(new PrintWriter(out));
+        cmd.setErr(new PrintWriter(out));
+        return cmd.execute(args);
+    }
+
+    private Path writeJournal(long seed) throws IOException {
+        Path path = dir.resolve("game.journal");
+        try (RollJournal journal = new RollJournal(path, new JournalHeader(DiceAlgorithm.SPLITTABLE, seed, 100))) {
+            journal.onRoll(2, 4, 0, RoundState.Outcome.CONTINUE, 10, 90);
+            journal.onRoll(3, 3, 6, RoundState.Outcome.WIN, 10, 110);
+            journal.onRoll(5, 6, 0, RoundState.Outcome.WIN, 20, 130);
+        }
+        return path;
+    }
+
+    @Test
+    void testReplayShowsFinalBalance() throws IOException {
+        assertEquals(0, execute(writeJournal(1).toString()));
+
+        assertTrue(out.toString().contains("Rounds: 2, rolls: 3"), out.toString());
+        assertTrue(out.toString().contains("Round 2: Balance: $130"), out.toString());
+    }
+
+    @Test
+    void testReplaySeeksToRound() throws IOException {
+        assertEquals(0, execute(writeJournal(1).toString(), "--round", "1"));
+
+        assertTrue(out.toString().contains("Round 1: Balance: $110"), out.toString());
+    }
+
+    @Test
+    void testVerifyReportsForeignRolls() throws IOException {
+        // Hand-written rolls are (almost certainly) not what the seed produces
+        assertEquals(1, execute(writeJournal(1).toString(), "--verify"));
+
+        assertTrue(out.toString().contains("does not match seed 1"), out.toString());
+    }
+
+    @Test
+    void testInvalidRoundIsRejected() throws IOException {
+        assertNotEquals(0, execute(writeJournal(1).toString(), "--round", "3"));
+    }
+}
@@ -157,6 +157,37 @@ class TerminalViewTest {
         assertEquals("Roll: 2 + 3 = " + TerminalView.ANSI_YELLOW + "5" + TerminalView.ANSI_RESET + " (total)", output);
     }
 
+    @Test
+    void testBufferedOutputIsWrittenOnFlush() {
+        ByteArrayOutputStream buffered = new ByteArrayOutputStream();
+        TerminalView bufferedView = new TerminalView(new ByteArrayInputStream(new byte[0]), buffered, true);
+        bufferedView.showRollResult(3, 4, true, 0);
+        bufferedView.showRoundOutcome(true, 10);
+        assertEquals(0, buffered.size(), "Buffered output should wait for flush");
+
+        bufferedView.flush();
+        view.showRollResult(3, 4, true, 0);
+        view.showRoundOutcome(true, 10);
+        assertEquals(outContent.toString(), buffered.toString());
+    }
+
+    @Test
+    void testUnbufferedOutputStreamIsWrittenImmediately() {
+        ByteArrayOutputStream direct = new ByteArrayOutputStream();
+        TerminalView directView = new TerminalView(new ByteArrayInputStream(new byte[0]), direct, false);
+        directView.showRoundOutcome(false, 10);
+        assertEquals(TerminalView.ANSI_RED + "You lose $10!" + TerminalView.ANSI_RESET + System.lineSeparator(),
+            direct.toString());
+    }
+
+    @Test
+    void testEndOfInputQuits() {
+        provideInput("");
+        assertEquals(-1, view.getBetAmount(5, 100));
+        assertFalse(view.promptForRoll());
+        assertFalse(view.askPlayAgain());
+    }
+
     private void provideInput(String data) {
         ByteArrayInputStream testIn = new ByteArrayInputStream(data.getBytes());
         System.setIn(testIn);
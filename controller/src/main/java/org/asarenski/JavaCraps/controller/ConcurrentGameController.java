@@ -0,0 +1,115 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundState;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe front for a {@link GameController}, for front ends with many concurrent readers.
+ * Changes are serialized by a lock held only by writers, and each change publishes a new
+ * immutable {@link GameView} through a volatile field. Reads of the balance, phase, point and
+ * dice are therefore wait-free: they never take the lock and never see a half-applied roll.
+ * A reader that needs several values together should read them from one {@link #getView()}.
+ */
+public class ConcurrentGameController {
+    private final GameController controller;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile GameView view;
+
+    /**
+     * Creates a new ConcurrentGameController with the specified player and dice.
+     * @param player the player for this game session
+     * @param dice the dice rolled during this game session
+     */
+    public ConcurrentGameController(Player player, Dice dice) {
+        this(new GameController(player, dice));
+    }
+
+    /**
+     * Creates a new ConcurrentGameController around an existing controller.
+     * @param controller the controller to guard; it must not be used directly afterwards
+     */
+    public ConcurrentGameController(GameController controller) {
+        this.controller = controller;
+        this.view = GameView.of(controller, 0);
+    }
+
+    /**
+     * Gets the latest published view of the game without blocking.
+     * @return the current view
+     */
+    public GameView getView() {
+        return view;
+    }
+
+    /**
+     * Starts a new round with the specified bet amount.
+     * @param betAmount the amount the player wants to bet
+     * @return true if the round was started successfully, false otherwise
+     */
+    public boolean startNewRound(int betAmount) {
+        writeLock.lock();
+        try {
+            boolean started = controller.startNewRound(betAmount);
+            publish();
+            return started;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Rolls the dice and processes the result.
+     * @return the view published after the roll
+     * @throws IllegalStateException if a roll is attempted when not allowed
+     */
+    public GameView roll() {
+        writeLock.lock();
+        try {
+            controller.roll();
+            return publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Resets the game state for a new round.
+     */
+    public void resetRound() {
+        writeLock.lock();
+        try {
+            controller.resetRound();
+            publish();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Publishes a view of the controller's current state. Called with the write lock held.
+     */
+    private GameView publish() {
+        GameView published = GameView.of(controller, view.version() + 1);
+        view = published;
+        return published;
+    }
+
+    public int getBalance() {
+        return view.balance();
+    }
+
+    public RoundState.Phase getPhase() {
+        return view.phase();
+    }
+
+    public int getPoint() {
+        return view.point();
+    }
+
+    public int getMinimumBet() {
+        return controller.getMinimumBet();
+    }
+}
@@ -1,5 +1,6 @@
 package org.asarenski.JavaCraps.controller;
 
+import org.asarenski.JavaCraps.core.Dice;
 import org.asarenski.JavaCraps.core.RoundState;
 import org.asarenski.JavaCraps.core.RoundEngine;
 import org.asarenski.JavaCraps.core.Player;
@@ -8,20 +9,75 @@ import org.asarenski.JavaCraps.core.MoveValidator;
 /**
  * Controller class responsible for managing the game state and flow.
  * Coordinates between the round engine, player, and move validation.
+ * Rounds, rolls and bets are reported to a {@link MetricsRegistry} under the {@code METRIC_*} names.
  */
 public class GameController {
+    /** Counter of rounds started with a valid bet. */
+    public static final String METRIC_ROUNDS_STARTED = "craps.rounds.started";
+    /** Counter of bets rejected by move validation. */
+    public static final String METRIC_BETS_REJECTED = "craps.bets.rejected";
+    /** Counter of dice rolls. */
+    public static final String METRIC_ROLLS = "craps.rolls";
+    /** Counter of rounds won. */
+    public static final String METRIC_ROUNDS_WON = "craps.rounds.won";
+    /** Counter of rounds lost. */
+    public static final String METRIC_ROUNDS_LOST = "craps.rounds.lost";
+    /** Histogram of {@link #startNewRound(int)} latency in nanoseconds. */
+    public static final String METRIC_ROUND_START_LATENCY = "craps.round.start.latency";
+    /** Histogram of {@link #roll()} latency in nanoseconds. */
+    public static final String METRIC_ROLL_LATENCY = "craps.roll.latency";
+    /** Histogram of the player's balance after each resolved round. */
+    public static final String METRIC_BALANCE = "craps.balance";
+
     private final RoundEngine roundEngine;
     private final Player player;
-    private MoveValidator moveValidator;
+    private final MoveValidator moveValidator;
+    private final boolean timed;
+    private final MetricsRegistry.Counter roundsStarted;
+    private final MetricsRegistry.Counter betsRejected;
+    private final MetricsRegistry.Counter rolls;
+    private final MetricsRegistry.Counter roundsWon;
+    private final MetricsRegistry.Counter roundsLost;
+    private final MetricsRegistry.Histogram roundStartLatency;
+    private final MetricsRegistry.Histogram rollLatency;
+    private final MetricsRegistry.Histogram balance;
 
     /**
      * Creates a new GameController with the specified player.
      * @param player the player for this game session
      */
     public GameController(Player player) {
+        this(player, new Dice());
+    }
+
+    /**
+     * Creates a new GameController with the specified player and dice.
+     * @param player the player for this game session
+     * @param dice the dice rolled during this game session
+     */
+    public GameController(Player player, Dice dice) {
+        this(player, dice, MetricsRegistry.NOOP);
+    }
+
+    /**
+     * Creates a new GameController that reports to the given metrics registry.
+     * @param player the player for this game session
+     * @param dice the dice rolled during this game session
+     * @param metrics the registry to report rounds, rolls and bets to
+     */
+    public GameController(Player player, Dice dice, MetricsRegistry metrics) {
         this.player = player;
-        this.roundEngine = new RoundEngine(player);
+        this.roundEngine = new RoundEngine(player, dice);
         this.moveValidator = new MoveValidator(roundEngine.getRoundState(), player);
+        this.timed = metrics != MetricsRegistry.NOOP;
+        this.roundsStarted = metrics.counter(METRIC_ROUNDS_STARTED);
+        this.betsRejected = metrics.counter(METRIC_BETS_REJECTED);
+        this.rolls = metrics.counter(METRIC_ROLLS);
+        this.roundsWon = metrics.counter(METRIC_ROUNDS_WON);
+        this.roundsLost = metrics.counter(METRIC_ROUNDS_LOST);
+        this.roundStartLatency = metrics.histogram(METRIC_ROUND_START_LATENCY);
+        this.rollLatency = metrics.histogram(METRIC_ROLL_LATENCY);
+        this.balance = metrics.histogram(METRIC_BALANCE);
     }
 
     /**
@@ -54,15 +110,18 @@ public class GameController {
      * @return true if the round was started successfully, false otherwise
      */
     public boolean startNewRound(int betAmount) {
+        long start = timed ? System.nanoTime() : 0;
         resetRound();
-        if (!moveValidator.isValidBet(betAmount)) {
-            return false;
+        boolean started = moveValidator.isValidBet(betAmount) && roundEngine.placeBet(betAmount);
+        if (started) {
+            roundsStarted.increment();
+        } else {
+            betsRejected.increment();
         }
-        if (!player.placeBet(betAmount)) {
-            return false;
+        if (timed) {
+            roundStartLatency.record(System.nanoTime() - start);
         }
-        this.moveValidator = new MoveValidator(roundEngine.getRoundState(), player);
-        return true;
+        return started;
     }
 
     /**
@@ -74,7 +133,42 @@ public class GameController {
         if (!moveValidator.canRoll()) {
             throw new IllegalStateException("Cannot roll dice at this time");
         }
-        return roundEngine.rollDice();
+        long start = timed ? System.nanoTime() : 0;
+        int total = roundEngine.rollDice();
+        rolls.increment();
+        RoundState.Outcome outcome = roundEngine.getLastOutcome();
+        if (outcome != RoundState.Outcome.CONTINUE) {
+            (outcome == RoundState.Outcome.WIN ? roundsWon : roundsLost).increment();
+            balance.record(player.getBalance());
+        }
+        if (timed) {
+            rollLatency.record(System.nanoTime() - start);
+        }
+        return total;
+    }
+
+    /**
+     * Gets the value of the first die from the last roll.
+     * @return the value of the first die, or 0 if no roll has been made
+     */
+    public int getDie1() {
+        return roundEngine.getDie1();
+    }
+
+    /**
+     * Gets the value of the second die from the last roll.
+     * @return the value of the second die, or 0 if no roll has been made
+     */
+    public int getDie2() {
+        return roundEngine.getDie2();
+    }
+
+    /**
+     * Gets the outcome of the last roll.
+     * @return the outcome of the last roll
+     */
+    public RoundState.Outcome getLastOutcome() {
+        return roundEngine.getLastOutcome();
     }
 
     /**
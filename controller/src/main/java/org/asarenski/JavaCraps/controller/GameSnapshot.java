@@ -0,0 +1,199 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.DiceSource;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundEngine;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.asarenski.JavaCraps.core.SeededDiceSource;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Versioned binary snapshots of a whole {@link GameController}: player, round, last roll
+ * and the dice's position in their random stream. The random position is stored as the
+ * dice algorithm, seed and number of rolls made, and restoring jumps the stream ahead. Only
+ * {@link DiceAlgorithm#isJumpable() jumpable} algorithms can do that in constant time, so only
+ * controllers rolling {@link SeededDiceSource} dice of such an algorithm can be snapshotted;
+ * create them with {@link #newDice()}.
+ * <p>
+ * Layout, version 1: magic (int), version (byte), name length (short) and UTF-8 bytes,
+ * balance and current bet (ints), status, point, die1, die2 and algorithm ordinal (bytes),
+ * seed and roll count (longs).
+ */
+public final class GameSnapshot {
+    static final int MAGIC = 0x4A43534E; // "JCSN"
+    static final byte VERSION = 1;
+    private static final int FIXED_SIZE = 4 + 1 + 2 + 4 + 4 + 5 + 8 + 8;
+    private static final RoundState.Status[] STATUSES = RoundState.Status.values();
+    private static final DiceAlgorithm[] ALGORITHMS = DiceAlgorithm.values();
+    /** The algorithm of dice created by {@link #newDice()}. */
+    public static final DiceAlgorithm DICE_ALGORITHM = DiceAlgorithm.SPLITMIX64;
+    /** The largest roll count a snapshot may hold, far beyond any real session. */
+    static final long MAX_DRAWS = 1L << 48;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Creates dice that can be snapshotted, rolling {@link #DICE_ALGORITHM} with a random seed.
+     * @return new dice
+     */
+    public static Dice newDice() {
+        return new Dice(DICE_ALGORITHM.create());
+    }
+
+    /**
+     * Writes a snapshot of a controller into a buffer.
+     * @param controller The controller to snapshot
+     * @param buffer The buffer to write into, starting at its position
+     * @throws IllegalStateException if the controller's dice are not seeded with a jumpable algorithm
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    public static void write(GameController controller, ByteBuffer buffer) {
+        RoundEngine engine = controller.getRoundEngine();
+        Dice dice = engine.getDice();
+        if (!(dice.getSource() instanceof SeededDiceSource source)) {
+            throw new IllegalStateException("Only dice created from a DiceAlgorithm can be snapshotted");
+        }
+        if (!source.getAlgorithm().isJumpable()) {
+            throw new IllegalStateException("Dice rolling " + source.getAlgorithm()
+                + " cannot be restored in constant time; use " + DICE_ALGORITHM);
+        }
+        Player player = controller.getPlayer();
+        RoundState round = controller.getRoundState();
+        byte[] name = player.getName().getBytes(StandardCharsets.UTF_8);
+        if (name.length > 0xFFFF) {
+            throw new IllegalStateException("Player name is too long to snapshot");
+        }
+
+        buffer.putInt(MAGIC).put(VERSION)
+            .putShort((short) name.length).put(name)
+            .putInt(player.getBalance()).putInt(player.getCurrentBet())
+            .put((byte) round.getGameStatus().ordinal()).put((byte) round.getPoint())
+            .put((byte) dice.getDie1()).put((byte) dice.getDie2())
+            .put((byte) source.getAlgorithm().ordinal())
+            .putLong(source.getSeed()).putLong(source.getDraws());
+    }
+
+    /**
+     * Creates a snapshot of a controller.
+     * @param controller The controller to snapshot
+     * @return the snapshot bytes
+     * @throws IllegalStateException if the controller's dice are not seeded with a jumpable algorithm
+     */
+    public static byte[] toBytes(GameController controller) {
+        int nameLength = controller.getPlayer().getName().getBytes(StandardCharsets.UTF_8).length;
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_SIZE + nameLength);
+        write(controller, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Restores a controller from a snapshot in a buffer in constant time. Every field is validated
+     * before anything is built.
+     * @param buffer The buffer to read from, starting at its position
+     * @return a new controller in the snapshotted state
+     * @throws IllegalArgumentException if the buffer does not hold a valid snapshot
+     */
+    public static GameController read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a game snapshot");
+            }
+            byte version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+            }
+            byte[] name = new byte[buffer.getShort() & 0xFFFF];
+            buffer.get(name);
+            int balance = buffer.getInt();
+            int currentBet = buffer.getInt();
+            RoundState.Status status = STATUSES[buffer.get()];
+            int point = buffer.get();
+            int die1 = buffer.get();
+            int die2 = buffer.get();
+            DiceAlgorithm algorithm = ALGORITHMS[buffer.get()];
+            long seed = buffer.getLong();
+            long draws = buffer.getLong();
+            if (!algorithm.isJumpable()) {
+                throw new IllegalArgumentException("Snapshot dice algorithm cannot be restored: " + algorithm);
+            }
+            validate(balance, currentBet, point, die1, die2, draws);
+
+            DiceSource source = algorithm.restore(seed, draws);
+            Player player = new Player(new String(name, StandardCharsets.UTF_8), balance);
+            player.restore(balance, currentBet);
+            GameController controller = new GameController(player, new Dice(source));
+            controller.getRoundEngine().restoreRound(status, point, die1, die2);
+            return controller;
+        } catch (BufferUnderflowException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Corrupt game snapshot", e);
+        }
+    }
+
+    private static void validate(int balance, int currentBet, int point, int die1, int die2, long draws) {
+        if (balance < 0 || currentBet < 0) {
+            throw new IllegalArgumentException("Invalid balance or bet in snapshot: " + balance + ", " + currentBet);
+        }
+        if (point != 0 && !isPoint(point)) {
+            throw new IllegalArgumentException("Invalid point in snapshot: " + point);
+        }
+        if (draws < 0 || draws > MAX_DRAWS) {
+            throw new IllegalArgumentException("Invalid roll count in snapshot: " + draws);
+        }
+        // Both dice are 0 before the first roll and 1-6 afterwards
+        boolean unrolled = die1 == 0 && die2 == 0;
+        boolean rolled = die1 >= 1 && die1 <= 6 && die2 >= 1 && die2 <= 6 && draws > 0;
+        if (!unrolled && !rolled) {
+            throw new IllegalArgumentException("Invalid dice in snapshot: " + die1 + ", " + die2);
+        }
+    }
+
+    private static boolean isPoint(int point) {
+        return switch (point) {
+            case 4, 5, 6, 8, 9, 10 -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Restores a controller from snapshot bytes.
+     * @param snapshot The bytes returned by {@link #toBytes(GameController)}
+     * @return a new controller in the snapshotted state
+     * @throws IllegalArgumentException if the bytes are not a valid snapshot
+     */
+    public static GameController fromBytes(byte[] snapshot) {
+        return read(ByteBuffer.wrap(snapshot));
+    }
+
+    /**
+     * Saves a snapshot to a file, replacing it atomically so a crash never leaves a partial snapshot.
+     * @param controller The controller to snapshot
+     * @param path The snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(GameController controller, Path path) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.write(temp, toBytes(controller));
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Loads a snapshot from a file.
+     * @param path The snapshot file
+     * @return a new controller in the snapshotted state
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid snapshot
+     */
+    public static GameController load(Path path) throws IOException {
+        return fromBytes(Files.readAllBytes(path));
+    }
+}
@@ -0,0 +1,52 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundState;
+
+/**
+ * Immutable view of a game at one moment, published by {@link ConcurrentGameController}
+ * and other single-writer owners of a {@link GameController} after every change.
+ * @param version The number of changes published before this view, starting at 0
+ * @param balance The player's balance, excluding the bet in play
+ * @param currentBet The bet in play, or 0 if none
+ * @param phase The phase of the round
+ * @param status Whether the round is in play, won or lost
+ * @param point The point, or 0 on the come-out roll
+ * @param die1 The first die of the last roll, or 0 before the first roll
+ * @param die2 The second die of the last roll, or 0 before the first roll
+ * @param lastOutcome The outcome of the last roll
+ * @param sessionOver Whether the player has reached the winning balance or run out of money
+ */
+public record GameView(long version, int balance, int currentBet, RoundState.Phase phase, RoundState.Status status,
+                       int point, int die1, int die2, RoundState.Outcome lastOutcome, boolean sessionOver) {
+
+    /**
+     * Captures the current state of a controller. Must be called by the thread that owns it.
+     * @param controller The controller to capture
+     * @param version The version of the new view
+     * @return a view of the controller
+     */
+    public static GameView of(GameController controller, long version) {
+        Player player = controller.getPlayer();
+        RoundState roundState = controller.getRoundState();
+        return new GameView(version, player.getBalance(), player.getCurrentBet(), roundState.getCurrentPhase(),
+            roundState.getGameStatus(), roundState.getPoint(), controller.getDie1(), controller.getDie2(),
+            controller.getLastOutcome(), controller.isGameSessionOver());
+    }
+
+    /**
+     * Checks if the round has been won or lost.
+     * @return true if the round is over
+     */
+    public boolean isRoundOver() {
+        return status != RoundState.Status.PLAYING;
+    }
+
+    /**
+     * Checks if the next roll is a come-out roll.
+     * @return true in the come-out phase
+     */
+    public boolean isComeOutRoll() {
+        return phase == RoundState.Phase.COME_OUT_ROLL;
+    }
+}
@@ -0,0 +1,56 @@
+package org.asarenski.JavaCraps.controller;
+
+/**
+ * Source of named counters and histograms, in the style of Micrometer's registry.
+ * Instrumented classes look their instruments up once, when they are created, so
+ * recording is a single interface call. {@link #NOOP} hands out instruments that do
+ * nothing, and instrumented code skips taking timestamps when given it.
+ */
+public interface MetricsRegistry {
+    /** Registry whose instruments discard everything. */
+    MetricsRegistry NOOP = new MetricsRegistry() {
+        @Override
+        public Counter counter(String name) {
+            return Counter.NOOP;
+        }
+
+        @Override
+        public Histogram histogram(String name) {
+            return Histogram.NOOP;
+        }
+    };
+
+    /**
+     * Gets the counter with the given name, creating it if needed.
+     * @param name The metric name
+     * @return the counter
+     */
+    Counter counter(String name);
+
+    /**
+     * Gets the histogram with the given name, creating it if needed.
+     * @param name The metric name
+     * @return the histogram
+     */
+    Histogram histogram(String name);
+
+    /**
+     * Monotonically increasing count of events.
+     */
+    @FunctionalInterface
+    interface Counter {
+        Counter NOOP = () -> { };
+
+        void increment();
+    }
+
+    /**
+     * Distribution of non-negative values, such as latencies in nanoseconds.
+     */
+    @FunctionalInterface
+    interface Histogram {
+        Histogram NOOP = value -> { };
+
+        void record(long value);
+    }
+}
@@ -0,0 +1,51 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.ConcurrentLogHistogram;
+import org.asarenski.JavaCraps.core.LogHistogram;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory {@link MetricsRegistry} safe to share between every game in the process.
+ * Counters are {@link LongAdder}s and histograms are lock-free {@link ConcurrentLogHistogram}s
+ * (values above {@link Integer#MAX_VALUE} are clamped), so recording never blocks.
+ * Rates such as rolls per second are obtained by sampling counters over time.
+ */
+public class SimpleMetricsRegistry implements MetricsRegistry {
+    private final Map<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final Map<String, ConcurrentLogHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Counter counter(String name) {
+        LongAdder adder = counters.computeIfAbsent(name, key -> new LongAdder());
+        return adder::increment;
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        ConcurrentLogHistogram histogram = histograms.computeIfAbsent(name, key -> new ConcurrentLogHistogram());
+        return value -> histogram.record((int) Math.min(Integer.MAX_VALUE, Math.max(0, value)));
+    }
+
+    /**
+     * Gets the current value of a counter.
+     * @param name The metric name
+     * @return the count, or 0 if the counter was never created
+     */
+    public long getCount(String name) {
+        LongAdder adder = counters.get(name);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Gets a copy of the values recorded by a histogram.
+     * @param name The metric name
+     * @return the recorded values, empty if the histogram was never created
+     */
+    public LogHistogram getHistogram(String name) {
+        ConcurrentLogHistogram histogram = histograms.get(name);
+        return histogram == null ? new LogHistogram() : histogram.snapshot();
+    }
+}
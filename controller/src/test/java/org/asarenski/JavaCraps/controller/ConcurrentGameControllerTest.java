@@ -0,0 +1,122 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentGameControllerTest {
+
+    private static ConcurrentGameController newController(int balance, long seed) {
+        return new ConcurrentGameController(new Player("Test Player", balance),
+            new Dice(DiceAlgorithm.SPLITMIX64.create(seed)));
+    }
+
+    @Test
+    void testViewsMatchUnderlyingController() {
+        Player player = new Player("Test Player", 100);
+        GameController plain = new GameController(new Player("Plain", 100), new Dice(DiceAlgorithm.SPLITMIX64.create(3)));
+        ConcurrentGameController controller = new ConcurrentGameController(player,
+            new Dice(DiceAlgorithm.SPLITMIX64.create(3)));
+
+        GameView initial = controller.getView();
+        assertEquals(0, initial.version());
+        assertEquals(100, initial.balance());
+        assertTrue(initial.isComeOutRoll());
+
+        assertFalse(controller.startNewRound(1000));
+        assertTrue(controller.startNewRound(10));
+        plain.startNewRound(10);
+        assertEquals(90, controller.getBalance());
+        assertEquals(10, controller.getView().currentBet());
+
+        GameView view;
+        do {
+            plain.roll();
+            view = controller.roll();
+            assertEquals(plain.getDie1(), view.die1());
+            assertEquals(plain.getDie2(), view.die2());
+            assertEquals(plain.getPoint(), view.point());
+            assertEquals(plain.getLastOutcome(), view.lastOutcome());
+        } while (!view.isRoundOver());
+        assertSame(view, controller.getView());
+        assertEquals(plain.getPlayer().getBalance(), view.balance());
+        assertEquals(0, view.currentBet());
+        assertThrows(IllegalStateException.class, controller::roll);
+
+        controller.resetRound();
+        assertEquals(RoundState.Phase.COME_OUT_ROLL, controller.getPhase());
+        assertEquals(0, controller.getPoint());
+    }
+
+    @Test
+    void testReadersSeeConsistentViewsWhileWritersRoll() throws Exception {
+        ConcurrentGameController controller = newController(Integer.MAX_VALUE / 2, 11);
+        int writers = 4;
+        int roundsPerWriter = 2_000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 4);
+        try {
+            List<Future<Long>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                readers.add(executor.submit(() -> {
+                    long reads = 0;
+                    long lastVersion = -1;
+                    while (!done.get()) {
+                        GameView view = controller.getView();
+                        assertTrue(view.version() >= lastVersion, "Versions only move forward");
+                        assertEquals(view.phase() == RoundState.Phase.POINT_PHASE, view.point() != 0);
+                        if (view.isRoundOver()) {
+                            assertEquals(0, view.currentBet(), "Settled rounds have no bet in play");
+                        }
+                        lastVersion = view.version();
+                        reads++;
+                    }
+                    return reads;
+                }));
+            }
+            List<Future<Integer>> rollers = new ArrayList<>();
+            for (int i = 0; i < writers; i++) {
+                rollers.add(executor.submit(() -> {
+                    int rolls = 0;
+                    int rounds = 0;
+                    while (rounds < roundsPerWriter) {
+                        try {
+                            controller.roll();
+                            rolls++;
+                        } catch (IllegalStateException e) {
+                            // No round in play: this writer starts one
+                            if (controller.startNewRound(10)) {
+                                rounds++;
+                            }
+                        }
+                    }
+                    return rolls;
+                }));
+            }
+            long rolls = 0;
+            for (Future<Integer> roller : rollers) {
+                rolls += roller.get();
+            }
+            done.set(true);
+            for (Future<Long> reader : readers) {
+                assertTrue(reader.get() > 0);
+            }
+            // Every roll and every round start published exactly one view
+            GameView last = controller.getView();
+            assertTrue(last.version() >= rolls + (long) writers * roundsPerWriter);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
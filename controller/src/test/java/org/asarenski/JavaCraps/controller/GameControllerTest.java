@@ -1,5 +1,7 @@
 package org.asarenski.JavaCraps.controller;
 
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
 import org.asarenski.JavaCraps.core.RoundState;
 import org.asarenski.JavaCraps.core.Player;
 import org.junit.jupiter.api.BeforeEach;
@@ -92,4 +94,39 @@ class GameControllerTest {
         assertTrue(controller.startNewRound(30));
         assertEquals(balanceAfterSecondRound - 30, player.getBalance());
     }
-} 
\ No newline at end of file
+
+    @RepeatedTest(100)
+    void testDiceValuesAndOutcomeAfterRoll() {
+        controller.startNewRound(10);
+        int roll = controller.roll();
+        assertEquals(roll, controller.getDie1() + controller.getDie2());
+        assertEquals(controller.isRoundOver(), controller.getLastOutcome() != RoundState.Outcome.CONTINUE);
+    }
+
+    @Test
+    void testMetricsAreReported() {
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+        GameController instrumented = new GameController(new Player("Metrics", 1000),
+            new Dice(DiceAlgorithm.SPLITMIX64.create(3L)), metrics);
+
+        assertFalse(instrumented.startNewRound(1));
+        int rolls = 0;
+        for (int round = 0; round < 20; round++) {
+            assertTrue(instrumented.startNewRound(10));
+            do {
+                instrumented.roll();
+                rolls++;
+            } while (!instrumented.isRoundOver());
+        }
+
+        assertEquals(20, metrics.getCount(GameController.METRIC_ROUNDS_STARTED));
+        assertEquals(1, metrics.getCount(GameController.METRIC_BETS_REJECTED));
+        assertEquals(rolls, metrics.getCount(GameController.METRIC_ROLLS));
+        assertEquals(20, metrics.getCount(GameController.METRIC_ROUNDS_WON)
+            + metrics.getCount(GameController.METRIC_ROUNDS_LOST));
+        assertEquals(rolls, metrics.getHistogram(GameController.METRIC_ROLL_LATENCY).getCount());
+        assertEquals(21, metrics.getHistogram(GameController.METRIC_ROUND_START_LATENCY).getCount());
+        assertEquals(20, metrics.getHistogram(GameController.METRIC_BALANCE).getCount(),
+            "The balance should be recorded once per resolved round");
+    }
+}
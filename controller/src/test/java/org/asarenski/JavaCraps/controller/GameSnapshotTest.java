@@ -0,0 +1,162 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+import org.asarenski.JavaCraps.core.RoundState;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+    private static final int TEST_BET = 10;
+
+    private static GameController newController(DiceAlgorithm algorithm) {
+        return new GameController(new Player("Snapshot Player", 500), new Dice(algorithm.create(99L)));
+    }
+
+    /**
+     * Rolls until the point phase, so the snapshot is taken mid-round with a bet in play.
+     */
+    private static void playIntoPointPhase(GameController controller) {
+        do {
+            if (controller.isRoundOver() || controller.getPlayer().getCurrentBet() == 0) {
+                assertTrue(controller.startNewRound(TEST_BET));
+            }
+            controller.roll();
+        } while (!controller.isPointPhase() || controller.isRoundOver());
+    }
+
+    private static void assertSameState(GameController expected, GameController actual) {
+        assertEquals(expected.getPlayer().getName(), actual.getPlayer().getName());
+        assertEquals(expected.getPlayer().getBalance(), actual.getPlayer().getBalance());
+        assertEquals(expected.getPlayer().getCurrentBet(), actual.getPlayer().getCurrentBet());
+        assertEquals(expected.getRoundState().getCurrentPhase(), actual.getRoundState().getCurrentPhase());
+        assertEquals(expected.getRoundState().getGameStatus(), actual.getRoundState().getGameStatus());
+        assertEquals(expected.getPoint(), actual.getPoint());
+        assertEquals(expected.getDie1(), actual.getDie1());
+        assertEquals(expected.getDie2(), actual.getDie2());
+        assertEquals(expected.getLastOutcome(), actual.getLastOutcome());
+    }
+
+    @Test
+    void testRestoredGameContinuesIdentically() {
+        GameController original = new GameController(new Player("Snapshot Player", 500), GameSnapshot.newDice());
+        playIntoPointPhase(original);
+
+        GameController restored = GameSnapshot.fromBytes(GameSnapshot.toBytes(original));
+        assertSameState(original, restored);
+
+        for (int i = 0; i < 200; i++) {
+            if (original.isRoundOver()) {
+                if (original.isGameSessionOver()) {
+                    break;
+                }
+                original.startNewRound(TEST_BET);
+                restored.startNewRound(TEST_BET);
+            }
+            assertEquals(original.roll(), restored.roll());
+            assertSameState(original, restored);
+        }
+    }
+
+    @Test
+    void testSnapshotOfResolvedRound() {
+        GameController original = newController(DiceAlgorithm.SPLITMIX64);
+        original.startNewRound(TEST_BET);
+        do {
+            original.roll();
+        } while (!original.isRoundOver());
+
+        GameController restored = GameSnapshot.fromBytes(GameSnapshot.toBytes(original));
+        assertSameState(original, restored);
+        assertEquals(original.isWin(), restored.isWin());
+    }
+
+    @Test
+    void testSaveAndLoad(@TempDir Path dir) throws IOException {
+        GameController original = newController(DiceAlgorithm.SPLITMIX64);
+        playIntoPointPhase(original);
+        Path path = dir.resolve("game.snapshot");
+
+        GameSnapshot.save(original, path);
+        GameSnapshot.save(original, path);
+
+        assertSameState(original, GameSnapshot.load(path));
+    }
+
+    @Test
+    void testSnapshotIsCompact() {
+        GameController controller = newController(DiceAlgorithm.SPLITMIX64);
+        int nameLength = controller.getPlayer().getName().length();
+
+        assertEquals(36 + nameLength, GameSnapshot.toBytes(controller).length);
+    }
+
+    @Test
+    void testInvalidSnapshotsAreRejected() {
+        byte[] snapshot = GameSnapshot.toBytes(newController(DiceAlgorithm.SPLITMIX64));
+
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.fromBytes(new byte[]{1, 2, 3}));
+        assertThrows(IllegalArgumentException.class,
+            () -> GameSnapshot.fromBytes(Arrays.copyOf(snapshot, snapshot.length - 1)));
+        byte[] futureVersion = snapshot.clone();
+        futureVersion[4] = 2;
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.fromBytes(futureVersion));
+    }
+
+    @Test
+    void testInvalidFieldsAreRejected() {
+        GameController controller = newController(DiceAlgorithm.SPLITMIX64);
+        playIntoPointPhase(controller);
+        byte[] snapshot = GameSnapshot.toBytes(controller);
+        int fields = 7 + controller.getPlayer().getName().getBytes(StandardCharsets.UTF_8).length;
+        GameSnapshot.fromBytes(snapshot);
+
+        assertRejected(snapshot, buffer -> buffer.put(fields + 9, (byte) 7), "A point of 7 would make every roll win");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 9, (byte) 13), "Points above 12 are invalid");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 10, (byte) 7), "Dice are 1-6");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 11, (byte) 0), "Dice are both rolled or both 0");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 10, (byte) -1), "Dice are 1-6");
+        assertRejected(snapshot, buffer -> buffer.putInt(fields, -1), "Balances are not negative");
+        assertRejected(snapshot, buffer -> buffer.putInt(fields + 4, -10), "Bets are not negative");
+        assertRejected(snapshot, buffer -> buffer.putLong(fields + 21, -1), "Roll counts are not negative");
+        assertRejected(snapshot, buffer -> buffer.putLong(fields + 21, 0), "Rolled dice need at least one roll");
+        assertRejected(snapshot, buffer -> buffer.putLong(fields + 21, Long.MAX_VALUE), "Roll counts are bounded");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 12, (byte) DiceAlgorithm.L64X128_MIX.ordinal()),
+            "Algorithms that replay every roll cannot be restored");
+        assertRejected(snapshot, buffer -> buffer.put(fields + 12, (byte) 99), "Unknown algorithm");
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DiceAlgorithm.class, names = "SPLITMIX64", mode = EnumSource.Mode.EXCLUDE)
+    void testOnlyJumpableDiceCanBeSnapshotted(DiceAlgorithm algorithm) {
+        GameController controller = newController(algorithm);
+
+        assertThrows(IllegalStateException.class, () -> GameSnapshot.toBytes(controller));
+    }
+
+    private static void assertRejected(byte[] snapshot, Consumer<ByteBuffer> corruption, String message) {
+        ByteBuffer buffer = ByteBuffer.wrap(snapshot.clone());
+        corruption.accept(buffer);
+        assertThrows(IllegalArgumentException.class, () -> GameSnapshot.read(buffer), message);
+    }
+
+    @Test
+    void testUnseededDiceCannotBeSnapshotted() {
+        GameController controller = new GameController(new Player(), new Dice(new Random()));
+
+        assertThrows(IllegalStateException.class, () -> GameSnapshot.toBytes(controller));
+    }
+}
@@ -0,0 +1,53 @@
+package org.asarenski.JavaCraps.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleMetricsRegistryTest {
+
+    @Test
+    void testCountersAndHistogramsFromManyThreads() throws InterruptedException {
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                MetricsRegistry.Counter counter = metrics.counter("events");
+                MetricsRegistry.Histogram histogram = metrics.histogram("values");
+                for (int i = 1; i <= 1000; i++) {
+                    counter.increment();
+                    histogram.record(i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(8000, metrics.getCount("events"));
+        assertEquals(8000, metrics.getHistogram("values").getCount());
+        assertEquals(500.5, metrics.getHistogram("values").getMean(), 1e-9);
+        assertEquals(1000, metrics.getHistogram("values").getMax());
+    }
+
+    @Test
+    void testUnknownMetricsAreEmpty() {
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+
+        assertEquals(0, metrics.getCount("missing"));
+        assertEquals(0, metrics.getHistogram("missing").getCount());
+    }
+
+    @Test
+    void testOutOfRangeValuesAreClamped() {
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+        metrics.histogram("latency").record(Long.MAX_VALUE);
+        metrics.histogram("latency").record(-5);
+
+        assertEquals(Integer.MAX_VALUE, metrics.getHistogram("latency").getMax());
+        assertEquals(0, metrics.getHistogram("latency").getMin());
+    }
+}
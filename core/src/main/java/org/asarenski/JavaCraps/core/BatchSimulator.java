@@ -0,0 +1,243 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Flat-bet simulator that advances many sessions in lockstep, one roll per step.
+ * Instead of a {@link Player}, {@link RoundState} and {@link Dice} per session, the state
+ * of every live session is kept in parallel primitive arrays ("lanes"), so each step is a
+ * few tight loops over contiguous memory that the JIT can unroll and vectorize. A lane
+ * whose session ends is refilled with the next session until all sessions are played.
+ * Sessions follow exactly the same rules as {@link Simulator} with a {@link FlatBetStrategy};
+ * with a single lane and the same dice source the results are identical.
+ * <p>
+ * When created from a seed instead of a {@link DiceSource}, every lane rolls from its own
+ * SplitMix64 stream so dice generation is vectorizable too. Rolls are then generated and
+ * resolved by a {@link RollKernel}, which uses SIMD instructions when the
+ * {@code jdk.incubator.vector} module is enabled and plain loops otherwise.
+ */
+public class BatchSimulator {
+    private static final int WIN = RoundState.Outcome.WIN.ordinal();
+    private static final int CONTINUE = RoundState.Outcome.CONTINUE.ordinal();
+    // Dice total for each pair index produced by a DiceSource
+    private static final int[] PAIR_TOTALS = new int[DiceSource.PAIR_COUNT];
+
+    static {
+        for (int pair = 0; pair < DiceSource.PAIR_COUNT; pair++) {
+            PAIR_TOTALS[pair] = pair / 6 + pair % 6 + 2;
+        }
+    }
+
+    private final int initialBalance;
+    private final int bet;
+    private final int maxRoundsPerSession;
+    private final DiceSource source;
+    private final int[] transitions;
+    private final RollKernel kernel;
+
+    // Per-lane session state
+    private final int[] balances;
+    private final int[] wagers;
+    private final int[] points;
+    private final int[] totals;
+    private final int[] outcomes;
+    private final int[] roundsPlayed;
+    private final int[] rollsInRound;
+    private final long[] laneStates;
+    private long sessionsRemaining;
+
+    /**
+     * Creates a batch simulator using the standard rules.
+     * @param initialBalance The balance each session starts with
+     * @param bet The amount wagered on every round
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param lanes The number of sessions advanced together
+     * @param source The dice source shared by all lanes
+     */
+    public BatchSimulator(int initialBalance, int bet, int maxRoundsPerSession, int lanes, DiceSource source) {
+        this(initialBalance, bet, maxRoundsPerSession, lanes, source, RuleTable.STANDARD);
+    }
+
+    /**
+     * Creates a batch simulator.
+     * @param initialBalance The balance each session starts with
+     * @param bet The amount wagered on every round
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param lanes The number of sessions advanced together
+     * @param source The dice source shared by all lanes
+     * @param rules The rule table used to resolve rolls
+     */
+    public BatchSimulator(int initialBalance, int bet, int maxRoundsPerSession, int lanes,
+                          DiceSource source, RuleTable rules) {
+        this(initialBalance, bet, maxRoundsPerSession, lanes, source, 0L, rules, RollKernel.select(lanes));
+    }
+
+    /**
+     * Creates a batch simulator using the standard rules, with a seeded dice stream per lane.
+     * @param initialBalance The balance each session starts with
+     * @param bet The amount wagered on every round
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param lanes The number of sessions advanced together
+     * @param seed The seed from which every lane's dice stream is derived
+     */
+    public BatchSimulator(int initialBalance, int bet, int maxRoundsPerSession, int lanes, long seed) {
+        this(initialBalance, bet, maxRoundsPerSession, lanes, seed, RuleTable.STANDARD);
+    }
+
+    /**
+     * Creates a batch simulator with a seeded dice stream per lane.
+     * @param initialBalance The balance each session starts with
+     * @param bet The amount wagered on every round
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param lanes The number of sessions advanced together
+     * @param seed The seed from which every lane's dice stream is derived
+     * @param rules The rule table used to resolve rolls
+     */
+    public BatchSimulator(int initialBalance, int bet, int maxRoundsPerSession, int lanes,
+                          long seed, RuleTable rules) {
+        this(initialBalance, bet, maxRoundsPerSession, lanes, null, seed, rules, RollKernel.select(lanes));
+    }
+
+    BatchSimulator(int initialBalance, int bet, int maxRoundsPerSession, int lanes,
+                   DiceSource source, long seed, RuleTable rules, RollKernel kernel) {
+        if (initialBalance <= 0) {
+            throw new IllegalArgumentException("Initial balance must be positive");
+        }
+        if (maxRoundsPerSession <= 0) {
+            throw new IllegalArgumentException("Max rounds per session must be positive");
+        }
+        if (lanes <= 0) {
+            throw new IllegalArgumentException("Lane count must be positive");
+        }
+        this.initialBalance = initialBalance;
+        this.bet = bet;
+        this.maxRoundsPerSession = maxRoundsPerSession;
+        this.source = source;
+        this.transitions = rules.transitions();
+        this.kernel = kernel;
+        this.balances = new int[lanes];
+        this.wagers = new int[lanes];
+        this.points = new int[lanes];
+        this.totals = new int[lanes];
+        this.outcomes = new int[lanes];
+        this.roundsPlayed = new int[lanes];
+        this.rollsInRound = new int[lanes];
+        this.laneStates = new long[lanes];
+        SplittableRandom seeds = new SplittableRandom(seed);
+        for (int lane = 0; lane < lanes; lane++) {
+            laneStates[lane] = seeds.nextLong();
+        }
+    }
+
+    /**
+     * Plays the given number of sessions.
+     * @param sessions The number of sessions to play
+     * @return the aggregated result of all sessions
+     */
+    public SimulationResult run(long sessions) {
+        SimulationResult result = new SimulationResult();
+        sessionsRemaining = sessions;
+        int active = 0;
+        while (active < balances.length && refillLane(active, result)) {
+            active++;
+        }
+
+        while (active > 0) {
+            rollLanes(active);
+            kernel.resolve(active, transitions, points, totals, outcomes, wagers, balances);
+
+            int lane = 0;
+            while (lane < active) {
+                rollsInRound[lane]++;
+                if (outcomes[lane] == CONTINUE) {
+                    lane++;
+                    continue;
+                }
+                result.recordRound(wagers[lane], outcomes[lane] == WIN, rollsInRound[lane]);
+                roundsPlayed[lane]++;
+                if (beginRound(lane)) {
+                    lane++;
+                    continue;
+                }
+                finishSession(lane, result);
+                if (refillLane(lane, result)) {
+                    lane++;
+                } else {
+                    // Move the last live lane into this slot and process it next
+                    active--;
+                    moveLane(active, lane);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Starts new sessions in a lane until one has a round to play.
+     * @return true if the lane holds a live session, false if no sessions are left
+     */
+    private boolean refillLane(int lane, SimulationResult result) {
+        while (sessionsRemaining > 0) {
+            sessionsRemaining--;
+            startSession(lane);
+            if (beginRound(lane)) {
+                return true;
+            }
+            finishSession(lane, result);
+        }
+        return false;
+    }
+
+    /**
+     * Draws one roll for every live lane.
+     */
+    private void rollLanes(int count) {
+        if (source == null) {
+            kernel.roll(count, laneStates, totals);
+            return;
+        }
+        for (int lane = 0; lane < count; lane++) {
+            totals[lane] = PAIR_TOTALS[source.rollPair()];
+        }
+    }
+
+    private void startSession(int lane) {
+        balances[lane] = initialBalance;
+        roundsPlayed[lane] = 0;
+    }
+
+    /**
+     * Places the next bet in a lane, mirroring {@link Simulator#playSession(SimulationResult)}.
+     * @return true if a round was started, false if the session is over
+     */
+    private boolean beginRound(int lane) {
+        int balance = balances[lane];
+        if (roundsPlayed[lane] >= maxRoundsPerSession || balance >= Player.getWinningBalance()) {
+            return false;
+        }
+        int wager = Math.min(bet, balance);
+        if (wager < Player.getMinimumBet()) {
+            return false;
+        }
+        balances[lane] = balance - wager;
+        wagers[lane] = wager;
+        points[lane] = 0;
+        rollsInRound[lane] = 0;
+        return true;
+    }
+
+    private void finishSession(int lane, SimulationResult result) {
+        int balance = balances[lane];
+        result.recordSession(balance < Player.getMinimumBet(), balance >= Player.getWinningBalance());
+    }
+
+    private void moveLane(int from, int to) {
+        balances[to] = balances[from];
+        wagers[to] = wagers[from];
+        points[to] = points[from];
+        totals[to] = totals[from];
+        outcomes[to] = outcomes[from];
+        roundsPlayed[to] = roundsPlayed[from];
+        rollsInRound[to] = rollsInRound[from];
+    }
+}
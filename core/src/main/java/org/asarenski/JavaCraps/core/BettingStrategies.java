@@ -0,0 +1,111 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Registry of named betting strategies, created from specs of the form {@code name[:arg[:arg]]}:
+ * <ul>
+ *   <li>{@code flat[:amount]}: {@link FlatBetStrategy}</li>
+ *   <li>{@code martingale[:base[:limit]]}: {@link MartingaleStrategy}</li>
+ *   <li>{@code paroli[:base[:wins]]}: {@link ParoliStrategy}, banking after 3 wins by default</li>
+ *   <li>{@code kelly[:fraction]}: {@link KellyFractionStrategy}, betting 5% of the balance by default</li>
+ * </ul>
+ * Amounts default to the minimum bet. Custom strategies can be added with {@link #register}.
+ */
+public final class BettingStrategies {
+    private static final double DEFAULT_FRACTION = 0.05;
+    private static final Map<String, Function<String[], ? extends BettingStrategy>> FACTORIES =
+        new ConcurrentHashMap<>();
+
+    static {
+        register("flat", args -> new FlatBetStrategy(amount(args, 0)));
+        register("martingale", args -> new MartingaleStrategy(amount(args, 0),
+            args.length > 1 ? amount(args, 1) : Integer.MAX_VALUE));
+        register("paroli", args -> new ParoliStrategy(amount(args, 0),
+            args.length > 1 ? integer(args[1]) : 3));
+        register("kelly", args -> new KellyFractionStrategy(args.length > 0 ? fraction(args[0]) : DEFAULT_FRACTION));
+    }
+
+    private BettingStrategies() {
+    }
+
+    /**
+     * Registers a strategy, replacing any strategy of the same name.
+     * @param name The name used in specs, matched case-insensitively
+     * @param factory Creates a strategy from the arguments after the name; throws
+     *                IllegalArgumentException for invalid arguments
+     */
+    public static void register(String name, Function<String[], ? extends BettingStrategy> factory) {
+        FACTORIES.put(name.toLowerCase(), factory);
+    }
+
+    /**
+     * Gets the names of all registered strategies.
+     * @return the names in alphabetical order
+     */
+    public static Set<String> names() {
+        return new TreeSet<>(FACTORIES.keySet());
+    }
+
+    /**
+     * Creates a strategy from a spec.
+     * @param spec The strategy spec, e.g. {@code martingale:10:640}
+     * @return a new strategy
+     * @throws IllegalArgumentException if the name is unknown or the arguments are invalid
+     */
+    public static BettingStrategy create(String spec) {
+        return factory(spec).get();
+    }
+
+    /**
+     * Validates a spec and returns a factory for independent instances of its strategy, e.g. one
+     * per {@link ParallelSimulator} worker.
+     * @param spec The strategy spec, e.g. {@code paroli:5}
+     * @return a factory creating a new strategy on every call
+     * @throws IllegalArgumentException if the name is unknown or the arguments are invalid
+     */
+    public static Supplier<BettingStrategy> factory(String spec) {
+        String[] parts = spec.trim().split(":", -1);
+        Function<String[], ? extends BettingStrategy> factory = FACTORIES.get(parts[0].trim().toLowerCase());
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown betting strategy: " + parts[0].trim());
+        }
+        String[] args = new String[parts.length - 1];
+        System.arraycopy(parts, 1, args, 0, args.length);
+        factory.apply(args); // Fail now rather than on first use
+        return () -> factory.apply(args);
+    }
+
+    private static int amount(String[] args, int index) {
+        if (index >= args.length) {
+            return Player.getMinimumBet();
+        }
+        int amount = integer(args[index]);
+        if (amount < Player.getMinimumBet()) {
+            throw new IllegalArgumentException(
+                "Invalid bet amount: " + args[index] + " (minimum $" + Player.getMinimumBet() + ")");
+        }
+        return amount;
+    }
+
+    private static int integer(String arg) {
+        try {
+            return Integer.parseInt(arg.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number: " + arg);
+        }
+    }
+
+    private static double fraction(String arg) {
+        try {
+            return Double.parseDouble(arg.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid fraction: " + arg);
+        }
+    }
+}
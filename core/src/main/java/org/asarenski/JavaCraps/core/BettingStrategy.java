@@ -0,0 +1,30 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Decides how much to wager on each round of a simulated session.
+ * Implementations may keep per-session state, so a single instance must not
+ * be shared between threads.
+ */
+public interface BettingStrategy {
+
+    /**
+     * Gets the amount to wager on the next round.
+     * @param balance The player's current balance
+     * @return The desired bet amount; the caller caps it at the balance
+     */
+    int nextBet(int balance);
+
+    /**
+     * Notifies the strategy that a round has been resolved.
+     * @param won true if the round was won, false if it was lost
+     * @param bet The amount that was wagered on the round
+     */
+    default void onRoundResolved(boolean won, int bet) {
+    }
+
+    /**
+     * Resets any per-session state before a new session starts.
+     */
+    default void reset() {
+    }
+}
@@ -0,0 +1,139 @@
+package org.asarenski.JavaCraps.core;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Bit-packed encoding of one column chunk of ints.
+ * Values are stored as offsets from the chunk minimum ("frame of reference"), each in the fewest
+ * bits that hold the chunk's range, packed into little-endian longs. If the differences between
+ * consecutive values span a smaller range, as for slowly changing balances, the differences are
+ * packed instead after the first value. A constant column packs into zero bits.
+ * <p>
+ * Layout: encoding byte ({@link #FRAME} or {@link #DELTA}), bit width byte, base as a long,
+ * the first value as an int for {@link #DELTA} only, then the packed longs.
+ */
+final class ColumnCodec {
+    static final byte FRAME = 0;
+    static final byte DELTA = 1;
+
+    private long[] words = new long[0];
+
+    /**
+     * Gets the maximum encoded size of a chunk, for sizing buffers.
+     * @param count The number of values
+     * @return the size in bytes
+     */
+    static long maxEncodedSize(int count) {
+        return 2 + Long.BYTES + Integer.BYTES + (((long) count * Integer.SIZE + 63) >>> 6) * Long.BYTES;
+    }
+
+    /**
+     * Encodes values into a buffer.
+     * @param values The values
+     * @param count The number of values to encode
+     * @param out The buffer to write to
+     */
+    void encode(int[] values, int count, ByteBuffer out) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        long minDelta = Long.MAX_VALUE;
+        long maxDelta = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, values[i]);
+            max = Math.max(max, values[i]);
+            if (i > 0) {
+                long delta = (long) values[i] - values[i - 1];
+                minDelta = Math.min(minDelta, delta);
+                maxDelta = Math.max(maxDelta, delta);
+            }
+        }
+        if (count == 0) {
+            min = max = 0;
+        }
+        int frameWidth = width(max - min);
+        boolean delta = count > 1 && width(maxDelta - minDelta) < frameWidth;
+        int width = delta ? width(maxDelta - minDelta) : frameWidth;
+        long base = delta ? minDelta : min;
+
+        out.put(delta ? DELTA : FRAME).put((byte) width).putLong(base);
+        int first = 0;
+        if (delta) {
+            out.putInt(values[0]);
+            first = 1;
+        }
+        int packed = count - first;
+        int wordCount = (int) (((long) packed * width + 63) >>> 6);
+        if (words.length < wordCount) {
+            words = new long[wordCount];
+        }
+        Arrays.fill(words, 0, wordCount, 0L);
+        if (width > 0) {
+            for (int i = 0; i < packed; i++) {
+                long value = delta
+                    ? (long) values[first + i] - values[first + i - 1] - base
+                    : values[i] - base;
+                long bit = (long) i * width;
+                int word = (int) (bit >>> 6);
+                int offset = (int) (bit & 63);
+                words[word] |= value << offset;
+                if (offset + width > 64) {
+                    words[word + 1] |= value >>> (64 - offset);
+                }
+            }
+        }
+        for (int i = 0; i < wordCount; i++) {
+            out.putLong(words[i]);
+        }
+    }
+
+    /**
+     * Decodes a chunk written by {@link #encode}.
+     * @param in The buffer positioned at the chunk
+     * @param count The number of values in the chunk
+     * @param values The array to decode into
+     */
+    void decode(ByteBuffer in, int count, int[] values) {
+        byte encoding = in.get();
+        int width = in.get();
+        long base = in.getLong();
+        if (encoding != FRAME && encoding != DELTA || width < 0 || width > Integer.SIZE) {
+            throw new IllegalArgumentException("Corrupt column chunk");
+        }
+        boolean delta = encoding == DELTA;
+        int first = 0;
+        if (delta && count > 0) {
+            values[0] = in.getInt();
+            first = 1;
+        }
+        int packed = count - first;
+        int wordCount = (int) (((long) packed * width + 63) >>> 6);
+        if (words.length < wordCount) {
+            words = new long[wordCount];
+        }
+        for (int i = 0; i < wordCount; i++) {
+            words[i] = in.getLong();
+        }
+        long mask = (1L << width) - 1;
+        for (int i = 0; i < packed; i++) {
+            long value = 0;
+            if (width > 0) {
+                long bit = (long) i * width;
+                int word = (int) (bit >>> 6);
+                int offset = (int) (bit & 63);
+                value = words[word] >>> offset;
+                if (offset + width > 64) {
+                    value |= words[word + 1] << (64 - offset);
+                }
+                value &= mask;
+            }
+            values[first + i] = delta
+                ? (int) (values[first + i - 1] + base + value)
+                : (int) (base + value);
+        }
+    }
+
+    private static int width(long range) {
+        return 64 - Long.numberOfLeadingZeros(range);
+    }
+}
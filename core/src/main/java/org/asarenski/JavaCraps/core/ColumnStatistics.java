@@ -0,0 +1,20 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Statistics of one column in one row group of a columnar roll file, stored in the file footer
+ * so readers can skip row groups without decoding them.
+ * @param min The smallest value in the column chunk
+ * @param max The largest value in the column chunk
+ */
+public record ColumnStatistics(int min, int max) {
+
+    /**
+     * Checks whether the chunk may contain values in a range.
+     * @param low The lower bound, inclusive
+     * @param high The upper bound, inclusive
+     * @return false if no value in the chunk can lie in the range
+     */
+    public boolean overlaps(int low, int high) {
+        return min <= high && max >= low;
+    }
+}
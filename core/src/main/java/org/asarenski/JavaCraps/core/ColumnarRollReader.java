@@ -0,0 +1,183 @@
+package org.asarenski.JavaCraps.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a columnar roll file written by {@link ColumnarRollWriter}.
+ * The footer is read when the file is opened, so row counts and per-chunk
+ * {@link ColumnStatistics} are available without decoding any data. Scans can decode just the
+ * columns they need with {@link #readColumn}, skipping row groups whose statistics rule them out,
+ * or replay every roll to a {@link RollListener} with {@link #readAll}.
+ */
+public class ColumnarRollReader implements AutoCloseable {
+    private static final RoundState.Outcome[] OUTCOMES = RoundState.Outcome.values();
+    private static final int COLUMNS = ColumnarRollWriter.COLUMNS;
+
+    private final FileChannel channel;
+    private final ColumnCodec codec = new ColumnCodec();
+    private final int[] rowCounts;
+    private final long[] offsets;
+    private final int[] lengths;
+    private final ColumnStatistics[] statistics;
+    private final long rowCount;
+    private int maxRowCount;
+    private ByteBuffer chunk = ByteBuffer.allocate(0);
+
+    /**
+     * Opens a columnar roll file and reads its footer.
+     * @param path The file to read
+     * @throws IOException if the file cannot be read or is not a columnar roll file
+     */
+    public ColumnarRollReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < ColumnarRollWriter.HEADER_SIZE + ColumnarRollWriter.TRAILER_SIZE) {
+                throw new IOException("Not a columnar roll file: " + path);
+            }
+            ByteBuffer header = read(0, ColumnarRollWriter.HEADER_SIZE);
+            ByteBuffer trailer = read(size - ColumnarRollWriter.TRAILER_SIZE, ColumnarRollWriter.TRAILER_SIZE);
+            int footerSize = trailer.getInt();
+            if (header.getInt() != ColumnarRollWriter.MAGIC || header.getShort() != ColumnarRollWriter.VERSION
+                    || header.getShort() != COLUMNS || trailer.getInt() != ColumnarRollWriter.MAGIC
+                    || footerSize < Integer.BYTES
+                    || footerSize > size - ColumnarRollWriter.HEADER_SIZE - ColumnarRollWriter.TRAILER_SIZE) {
+                throw new IOException("Not a columnar roll file: " + path);
+            }
+            ByteBuffer footer = read(size - ColumnarRollWriter.TRAILER_SIZE - footerSize, footerSize);
+            int groups = footer.getInt();
+            rowCounts = new int[groups];
+            offsets = new long[groups * COLUMNS];
+            lengths = new int[groups * COLUMNS];
+            statistics = new ColumnStatistics[groups * COLUMNS];
+            long rows = 0;
+            for (int group = 0; group < groups; group++) {
+                rowCounts[group] = footer.getInt();
+                rows += rowCounts[group];
+                maxRowCount = Math.max(maxRowCount, rowCounts[group]);
+                for (int column = 0; column < COLUMNS; column++) {
+                    int index = group * COLUMNS + column;
+                    offsets[index] = footer.getLong();
+                    lengths[index] = footer.getInt();
+                    statistics[index] = new ColumnStatistics(footer.getInt(), footer.getInt());
+                }
+            }
+            rowCount = rows;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e instanceof IOException io ? io : new IOException("Corrupt columnar roll file: " + path, e);
+        }
+    }
+
+    private ByteBuffer read(long position, int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, position + bytes.position()) < 0) {
+                throw new EOFException("Truncated columnar roll file");
+            }
+        }
+        return bytes.flip();
+    }
+
+    /**
+     * Gets the total number of rolls in the file.
+     * @return the roll count
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public int getRowGroupCount() {
+        return rowCounts.length;
+    }
+
+    /**
+     * Gets the number of rolls in a row group.
+     * @param group The row group index
+     * @return the number of rolls
+     */
+    public int getRowCount(int group) {
+        return rowCounts[group];
+    }
+
+    /**
+     * Gets the statistics of one column chunk from the footer.
+     * @param group The row group index
+     * @param column The column
+     * @return the chunk's minimum and maximum
+     */
+    public ColumnStatistics getStatistics(int group, RollColumn column) {
+        return statistics[group * COLUMNS + column.ordinal()];
+    }
+
+    /**
+     * Decodes one column of one row group.
+     * @param group The row group index
+     * @param column The column to decode
+     * @param values The array to decode into, at least {@link #getRowCount(int)} long
+     * @return the number of values decoded
+     * @throws IOException if the file cannot be read or the chunk is corrupt
+     */
+    public int readColumn(int group, RollColumn column, int[] values) throws IOException {
+        int index = group * COLUMNS + column.ordinal();
+        int length = lengths[index];
+        if (chunk.capacity() < length) {
+            chunk = ByteBuffer.allocateDirect(length);
+        }
+        chunk.clear().limit(length);
+        while (chunk.hasRemaining()) {
+            if (channel.read(chunk, offsets[index] + chunk.position()) < 0) {
+                throw new EOFException("Truncated columnar roll file");
+            }
+        }
+        try {
+            codec.decode(chunk.flip(), rowCounts[group], values);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt column chunk " + column + " in row group " + group, e);
+        }
+        return rowCounts[group];
+    }
+
+    /**
+     * Passes every roll in the file, in order, to a listener. The first roll of each session is
+     * preceded by {@link RollListener#onSessionStart(int)} with the balance the session started with.
+     * @param listener The listener to notify
+     * @return the number of rolls read
+     * @throws IOException if the file cannot be read or is corrupt
+     */
+    public long readAll(RollListener listener) throws IOException {
+        int[][] columns = new int[COLUMNS][maxRowCount];
+        int[] dice = columns[RollColumn.DICE.ordinal()];
+        int[] points = columns[RollColumn.POINT.ordinal()];
+        int[] outcomes = columns[RollColumn.OUTCOME.ordinal()];
+        int[] bets = columns[RollColumn.BET.ordinal()];
+        int[] balances = columns[RollColumn.BALANCE.ordinal()];
+        int[] sessionStarts = columns[RollColumn.SESSION_START.ordinal()];
+        for (int group = 0; group < rowCounts.length; group++) {
+            for (RollColumn column : RollColumn.values()) {
+                readColumn(group, column, columns[column.ordinal()]);
+            }
+            for (int row = 0; row < rowCounts[group]; row++) {
+                if (outcomes[row] < 0 || outcomes[row] >= OUTCOMES.length) {
+                    throw new IOException("Corrupt outcome " + outcomes[row] + " in row group " + group);
+                }
+                if (sessionStarts[row] != ColumnarRollWriter.NOT_SESSION_START) {
+                    listener.onSessionStart(sessionStarts[row]);
+                }
+                listener.onRoll(dice[row] / 6 + 1, dice[row] % 6 + 1, points[row], OUTCOMES[outcomes[row]],
+                    bets[row], balances[row]);
+            }
+        }
+        return rowCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,44 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe, lock-free variant of {@link LogHistogram} with the same buckets, for values
+ * recorded from many threads at once. Read it through {@link #snapshot()}.
+ */
+public class ConcurrentLogHistogram {
+    private final AtomicLongArray counts = new AtomicLongArray(LogHistogram.BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Integer.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a value.
+     * @param value The value to record
+     * @throws IllegalArgumentException if the value is negative
+     */
+    public void record(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        counts.incrementAndGet(LogHistogram.indexOf(value));
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Copies the values recorded so far. Values recorded concurrently with the copy may be
+     * only partly reflected in it.
+     * @return a histogram of the recorded values
+     */
+    public LogHistogram snapshot() {
+        long[] copy = new long[LogHistogram.BUCKETS];
+        for (int i = 0; i < copy.length; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new LogHistogram(copy, sum.sum(), (int) min.get(), (int) max.get());
+    }
+}
@@ -1,6 +1,6 @@
 package org.asarenski.JavaCraps.core;
 
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
 /**
  * Utility class for simulating dice rolls in the Craps game.
@@ -8,13 +8,30 @@ import java.util.Random;
  */
 public class Dice {
     private static final int SIDES = 6;
-    private final Random random;
+    private final DiceSource source;
     private int value;  // Total value of both dice
     private int die1;   // Value of first die
     private int die2;   // Value of second die
 
     public Dice() {
-        this.random = new Random();
+        this(DiceAlgorithm.DEFAULT.create());
+    }
+
+    /**
+     * Creates dice backed by the given random generator.
+     * Each thread should roll its own dice with its own generator.
+     * @param random The random generator used for every roll
+     */
+    public Dice(RandomGenerator random) {
+        this(new RandomGeneratorDiceSource(random));
+    }
+
+    /**
+     * Creates dice backed by the given dice source.
+     * @param source The source used for every roll
+     */
+    public Dice(DiceSource source) {
+        this.source = source;
         reset();
     }
 
@@ -27,26 +44,37 @@ public class Dice {
         this.die2 = 0;
     }
 
+    /**
+     * Restores the last roll, e.g. from a snapshot, without drawing from the source.
+     * @param die1 The value of the first die, or 0 if no roll has been made
+     * @param die2 The value of the second die, or 0 if no roll has been made
+     */
+    public void restore(int die1, int die2) {
+        this.die1 = die1;
+        this.die2 = die2;
+        this.value = die1 + die2;
+    }
+
     /**
      * Simulates rolling two six-sided dice and returns their sum.
      * The result is stored as the last roll.
      * @return The sum of the two dice (2-12)
      */
     public int roll() {
-        die1 = rollSingleDie();
-        die2 = rollSingleDie();
+        int pair = source.rollPair();
+        die1 = pair / SIDES + 1;
+        die2 = pair % SIDES + 1;
         value = die1 + die2;
+        GameEvents.DiceRoll event = new GameEvents.DiceRoll();
+        if (event.isEnabled()) {
+            event.die1 = die1;
+            event.die2 = die2;
+            event.total = value;
+            event.commit();
+        }
         return value;
     }
 
-    /**
-     * Simulates rolling a single six-sided die.
-     * @return A random number between 1 and 6
-     */
-    private int rollSingleDie() {
-        return random.nextInt(SIDES) + 1;
-    }
-
     /**
      * Gets the total value of the last roll.
      * @return The sum of the last roll, or 0 if no roll has been made
@@ -70,4 +98,12 @@ public class Dice {
     public int getDie2() {
         return die2;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Gets the source the dice roll from.
+     * @return the dice source
+     */
+    public DiceSource getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,86 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * Random number algorithms available for rolling dice.
+ */
+public enum DiceAlgorithm {
+    L64X128_MIX("L64X128MixRandom"),
+    XOROSHIRO128_PLUS_PLUS("Xoroshiro128PlusPlus"),
+    SPLITTABLE("SplittableRandom"),
+    LEGACY("Random"),
+    /** SplitMix64, whose position can be restored in constant time after any number of rolls. */
+    SPLITMIX64("SplitMix64") {
+        @Override
+        RandomGenerator generator(long seed) {
+            return new SplitMix64(seed);
+        }
+
+        @Override
+        public boolean isJumpable() {
+            return true;
+        }
+    };
+
+    /** Algorithm used when none is specified. */
+    public static final DiceAlgorithm DEFAULT = L64X128_MIX;
+
+    private final String generatorName;
+
+    DiceAlgorithm(String generatorName) {
+        this.generatorName = generatorName;
+    }
+
+    /**
+     * Creates a dice source with a randomly chosen seed.
+     * @return a new dice source
+     */
+    public SeededDiceSource create() {
+        return create(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a deterministic dice source; the same seed always produces the same rolls.
+     * @param seed The seed for the generator
+     * @return a new dice source
+     */
+    public SeededDiceSource create(long seed) {
+        return new SeededDiceSource(this, seed, generator(seed));
+    }
+
+    /**
+     * Recreates a dice source at the position reached after the given number of rolls.
+     * @param seed The seed the original source was created with
+     * @param draws The number of rolls the original source had made
+     * @return a dice source whose next roll is the original source's next roll
+     */
+    public SeededDiceSource restore(long seed, long draws) {
+        SeededDiceSource source = create(seed);
+        source.skip(draws);
+        return source;
+    }
+
+    /**
+     * Checks whether {@link SeededDiceSource#skip(long)} runs in constant time for this algorithm.
+     * Other algorithms skip by drawing every roll in between.
+     * @return true if the source can jump ahead to any position
+     */
+    public boolean isJumpable() {
+        return false;
+    }
+
+    RandomGenerator generator(long seed) {
+        return RandomGeneratorFactory.of(generatorName).create(seed);
+    }
+
+    /**
+     * Gets the name of the underlying {@link java.util.random.RandomGenerator} algorithm.
+     * @return the generator algorithm name
+     */
+    public String getGeneratorName() {
+        return generatorName;
+    }
+}
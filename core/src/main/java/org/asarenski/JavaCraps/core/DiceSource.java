@@ -0,0 +1,18 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Source of randomness for {@link Dice}.
+ * Both dice are produced by a single call so implementations can derive them
+ * from one random draw.
+ */
+public interface DiceSource {
+    /** Number of distinct outcomes of rolling two six-sided dice. */
+    int PAIR_COUNT = 36;
+
+    /**
+     * Rolls both dice at once.
+     * @return a uniformly distributed index between 0 and 35, encoding
+     *         {@code (die1 - 1) * 6 + (die2 - 1)}
+     */
+    int rollPair();
+}
@@ -0,0 +1,25 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Betting strategy that wagers the same amount on every round.
+ */
+public class FlatBetStrategy implements BettingStrategy {
+    private final int amount;
+
+    /**
+     * Creates a flat betting strategy.
+     * @param amount The amount to wager on every round
+     */
+    public FlatBetStrategy(int amount) {
+        this.amount = amount;
+    }
+
+    @Override
+    public int nextBet(int balance) {
+        return amount;
+    }
+
+    public int getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,86 @@
+package org.asarenski.JavaCraps.core;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events emitted by the game, so game activity can be lined up
+ * with GC and CPU samples in the same recording. All events are instant, carry no stack
+ * trace and appear under the "JavaCraps" category. Dice rolls can happen tens of millions
+ * of times a second in simulations, so that event is disabled unless a recording enables
+ * {@code JavaCraps.DiceRoll} explicitly; the others are enabled by default.
+ * <p>
+ * Emitting code creates the event and only fills and commits it when
+ * {@link Event#isEnabled()} is true; with no recording running the JIT removes the event entirely.
+ */
+final class GameEvents {
+    private static final String CATEGORY = "JavaCraps";
+
+    private GameEvents() {
+    }
+
+    @Name("JavaCraps.RoundStart")
+    @Label("Round Start")
+    @Description("A bet was placed and a round started")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RoundStart extends Event {
+        @Label("Bet")
+        int bet;
+
+        @Label("Balance")
+        @Description("Balance after placing the bet")
+        int balance;
+    }
+
+    @Name("JavaCraps.DiceRoll")
+    @Label("Dice Roll")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    @Enabled(false)
+    static final class DiceRoll extends Event {
+        @Label("Die 1")
+        int die1;
+
+        @Label("Die 2")
+        int die2;
+
+        @Label("Total")
+        int total;
+    }
+
+    @Name("JavaCraps.PointEstablished")
+    @Label("Point Established")
+    @Description("The round moved from the come-out roll to the point phase")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class PointEstablished extends Event {
+        @Label("Point")
+        int point;
+    }
+
+    @Name("JavaCraps.RoundResolved")
+    @Label("Round Resolved")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class RoundResolved extends Event {
+        @Label("Won")
+        boolean won;
+
+        @Label("Bet")
+        int bet;
+
+        @Label("Point")
+        @Description("The point in effect, or 0 if resolved on the come-out roll")
+        int point;
+
+        @Label("Balance")
+        @Description("Balance after the round was settled")
+        int balance;
+    }
+}
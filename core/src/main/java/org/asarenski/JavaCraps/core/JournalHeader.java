@@ -0,0 +1,20 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Session metadata stored at the start of a {@link RollJournal}, enough to regenerate its rolls.
+ * @param algorithm The dice algorithm of the session, or null if the rolls were not seeded
+ * @param seed The seed the dice were created with; meaningful only when an algorithm is set
+ * @param initialBalance The player's balance when the session started, or 0 if unknown
+ */
+public record JournalHeader(DiceAlgorithm algorithm, long seed, int initialBalance) {
+    /** Header of a journal whose session cannot be regenerated. */
+    public static final JournalHeader UNSEEDED = new JournalHeader(null, 0, 0);
+
+    /**
+     * Checks whether the rolls can be regenerated from the seed.
+     * @return true if the header names a dice algorithm
+     */
+    public boolean isSeeded() {
+        return algorithm != null;
+    }
+}
@@ -0,0 +1,30 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Betting strategy that wagers a fixed fraction of the current balance, rounded down and
+ * never below the minimum bet. The pass line has a negative edge, so the full Kelly bet is
+ * zero; a small fraction is the usual fractional-Kelly sizing for playing anyway.
+ */
+public class KellyFractionStrategy implements BettingStrategy {
+    private final double fraction;
+
+    /**
+     * Creates a fractional betting strategy.
+     * @param fraction The fraction of the balance to wager, greater than 0 and at most 1
+     */
+    public KellyFractionStrategy(double fraction) {
+        if (!(fraction > 0 && fraction <= 1)) {
+            throw new IllegalArgumentException("Fraction must be in (0, 1]: " + fraction);
+        }
+        this.fraction = fraction;
+    }
+
+    @Override
+    public int nextBet(int balance) {
+        return Math.max(Player.getMinimumBet(), (int) (balance * fraction));
+    }
+
+    public double getFraction() {
+        return fraction;
+    }
+}
@@ -0,0 +1,56 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Betting strategy that doubles the bet after every loss and returns to the base bet after a win.
+ * When doubling would exceed the table limit the progression starts over from the base bet.
+ */
+public class MartingaleStrategy implements BettingStrategy {
+    private final int baseBet;
+    private final int limit;
+    private int nextBet;
+
+    /**
+     * Creates a Martingale strategy without a table limit.
+     * @param baseBet The bet after a win and at the start of a session
+     */
+    public MartingaleStrategy(int baseBet) {
+        this(baseBet, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a Martingale strategy.
+     * @param baseBet The bet after a win and at the start of a session
+     * @param limit The largest bet the progression may reach
+     */
+    public MartingaleStrategy(int baseBet, int limit) {
+        if (limit < baseBet) {
+            throw new IllegalArgumentException("Limit must not be below the base bet");
+        }
+        this.baseBet = baseBet;
+        this.limit = limit;
+        this.nextBet = baseBet;
+    }
+
+    @Override
+    public int nextBet(int balance) {
+        return nextBet;
+    }
+
+    @Override
+    public void onRoundResolved(boolean won, int bet) {
+        nextBet = won || bet > limit / 2 ? baseBet : bet * 2;
+    }
+
+    @Override
+    public void reset() {
+        nextBet = baseBet;
+    }
+
+    public int getBaseBet() {
+        return baseBet;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+}
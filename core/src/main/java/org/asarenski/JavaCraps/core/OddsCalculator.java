@@ -0,0 +1,209 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.Arrays;
+
+/**
+ * Computes exact pass line odds for a {@link RuleTable} instead of sampling them.
+ * Round probabilities come from treating each point as an absorbing Markov chain;
+ * bankroll distributions come from dynamic programming over the player's balance,
+ * following the same session rules as {@link Simulator} with a flat bet.
+ */
+public class OddsCalculator {
+    private static final int[] WAYS = {0, 0, 1, 2, 3, 4, 5, 6, 5, 4, 3, 2, 1};
+    private static final double COMBINATIONS = 36.0;
+
+    private final double comeOutWin;
+    private final double comeOutLose;
+    private final double[] pointWin = new double[RuleTable.TOTALS];
+    private final double[] pointRolls = new double[RuleTable.TOTALS];
+    private final double passLineWin;
+    private final double expectedRolls;
+
+    public OddsCalculator() {
+        this(RuleTable.STANDARD);
+    }
+
+    /**
+     * Creates a calculator for the given rules.
+     * @param rules The rule table to compute odds for
+     */
+    public OddsCalculator(RuleTable rules) {
+        double win = 0;
+        double lose = 0;
+        double rolls = 1;
+        double passWin = 0;
+        for (int roll = 2; roll < RuleTable.TOTALS; roll++) {
+            double probability = getRollProbability(roll);
+            switch (rules.outcome(0, roll)) {
+                case WIN -> win += probability;
+                case LOSE -> lose += probability;
+                case CONTINUE -> {
+                    resolvePoint(rules, roll);
+                    passWin += probability * pointWin[roll];
+                    rolls += probability * pointRolls[roll];
+                }
+            }
+        }
+        this.comeOutWin = win;
+        this.comeOutLose = lose;
+        this.passLineWin = win + passWin;
+        this.expectedRolls = rolls;
+    }
+
+    /**
+     * Solves the point phase for one point: every roll either wins, loses or repeats,
+     * so the win chance is the per-roll win chance over the per-roll resolution chance,
+     * and the number of rolls is geometric.
+     */
+    private void resolvePoint(RuleTable rules, int point) {
+        double win = 0;
+        double resolve = 0;
+        for (int roll = 2; roll < RuleTable.TOTALS; roll++) {
+            RoundState.Outcome outcome = rules.outcome(point, roll);
+            if (outcome != RoundState.Outcome.CONTINUE) {
+                resolve += getRollProbability(roll);
+                if (outcome == RoundState.Outcome.WIN) {
+                    win += getRollProbability(roll);
+                }
+            }
+        }
+        pointWin[point] = win / resolve;
+        pointRolls[point] = 1 / resolve;
+    }
+
+    /**
+     * Gets the probability of rolling a total with two dice.
+     * @param total The dice total
+     * @return the probability of the total, or 0 if it cannot be rolled
+     */
+    public static double getRollProbability(int total) {
+        return total < 0 || total >= WAYS.length ? 0.0 : WAYS[total] / COMBINATIONS;
+    }
+
+    /**
+     * Gets the probability that the come-out roll wins immediately.
+     * @return the natural probability
+     */
+    public double getComeOutWinProbability() {
+        return comeOutWin;
+    }
+
+    /**
+     * Gets the probability that the come-out roll loses immediately.
+     * @return the craps probability
+     */
+    public double getComeOutLoseProbability() {
+        return comeOutLose;
+    }
+
+    /**
+     * Gets the probability of making a point once it is established.
+     * @param point The established point
+     * @return the probability of rolling the point before losing, or 0 if it is never a point
+     */
+    public double getPointWinProbability(int point) {
+        return point >= 0 && point < pointWin.length ? pointWin[point] : 0;
+    }
+
+    /**
+     * Gets the probability that a pass line bet wins.
+     * @return the round win probability
+     */
+    public double getPassLineWinProbability() {
+        return passLineWin;
+    }
+
+    /**
+     * Gets the house edge of an even money pass line bet.
+     * @return the expected loss per unit wagered
+     */
+    public double getHouseEdge() {
+        return 1 - 2 * passLineWin;
+    }
+
+    /**
+     * Gets the expected number of rolls needed to resolve a round.
+     * @return the expected rolls per round
+     */
+    public double getExpectedRollsPerRound() {
+        return expectedRolls;
+    }
+
+    /**
+     * Computes the distribution of the player's balance after a session of flat bets.
+     * The session stops early when the player reaches the winning balance or can no
+     * longer cover the minimum bet; a bet larger than the balance is capped at the balance.
+     * @param initialBalance The balance the session starts with
+     * @param bet The amount wagered on each round
+     * @param maxRounds The maximum number of rounds in the session
+     * @return probabilities indexed by final balance
+     */
+    public double[] getBalanceDistribution(int initialBalance, int bet, int maxRounds) {
+        if (initialBalance <= 0 || bet <= 0 || maxRounds < 0) {
+            throw new IllegalArgumentException("Balance and bet must be positive and rounds not negative");
+        }
+        int size = Math.max(initialBalance, Player.getWinningBalance() - 1 + bet) + 1;
+        double[] current = new double[size];
+        double[] next = new double[size];
+        current[initialBalance] = 1.0;
+        double lose = 1 - passLineWin;
+
+        for (int round = 0; round < maxRounds; round++) {
+            Arrays.fill(next, 0.0);
+            boolean moved = false;
+            for (int balance = 0; balance < size; balance++) {
+                double probability = current[balance];
+                if (probability == 0.0) {
+                    continue;
+                }
+                int wager = Math.min(bet, balance);
+                if (balance >= Player.getWinningBalance() || wager < Player.getMinimumBet()) {
+                    next[balance] += probability; // Session already over
+                    continue;
+                }
+                next[balance + wager] += probability * passLineWin;
+                next[balance - wager] += probability * lose;
+                moved = true;
+            }
+            double[] swap = current;
+            current = next;
+            next = swap;
+            if (!moved) {
+                break;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Computes the probability that a session of flat bets ends unable to cover the minimum bet.
+     * @param initialBalance The balance the session starts with
+     * @param bet The amount wagered on each round
+     * @param maxRounds The maximum number of rounds in the session
+     * @return the risk of ruin
+     */
+    public double getRiskOfRuin(int initialBalance, int bet, int maxRounds) {
+        double[] distribution = getBalanceDistribution(initialBalance, bet, maxRounds);
+        double ruin = 0;
+        for (int balance = 0; balance < Player.getMinimumBet() && balance < distribution.length; balance++) {
+            ruin += distribution[balance];
+        }
+        return ruin;
+    }
+
+    /**
+     * Computes the probability that a session of flat bets reaches the winning balance.
+     * @param initialBalance The balance the session starts with
+     * @param bet The amount wagered on each round
+     * @param maxRounds The maximum number of rounds in the session
+     * @return the probability of reaching the winning balance
+     */
+    public double getTargetProbability(int initialBalance, int bet, int maxRounds) {
+        double[] distribution = getBalanceDistribution(initialBalance, bet, maxRounds);
+        double target = 0;
+        for (int balance = Player.getWinningBalance(); balance < distribution.length; balance++) {
+            target += distribution[balance];
+        }
+        return target;
+    }
+}
@@ -0,0 +1,112 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * Runs simulated sessions across a {@link ForkJoinPool}.
+ * Each leaf task plays its share of sessions on its own {@link Simulator} with its own
+ * dice, seeded from a stream split off a root {@link SplittableRandom}, so workers never
+ * contend on a shared generator. The split tree depends only on the session count, which makes
+ * a seeded run reproducible regardless of pool size or scheduling.
+ */
+public class ParallelSimulator {
+    private static final long SESSIONS_PER_TASK = 256;
+
+    private final int initialBalance;
+    private final Supplier<? extends BettingStrategy> strategyFactory;
+    private final int maxRoundsPerSession;
+    private final DiceAlgorithm algorithm;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a new ParallelSimulator that runs on the common pool.
+     * @param initialBalance The balance each session starts with
+     * @param strategyFactory Creates a fresh strategy for each worker
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     */
+    public ParallelSimulator(int initialBalance, Supplier<? extends BettingStrategy> strategyFactory,
+                             int maxRoundsPerSession) {
+        this(initialBalance, strategyFactory, maxRoundsPerSession, DiceAlgorithm.DEFAULT, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new ParallelSimulator that runs on the given pool.
+     * @param initialBalance The balance each session starts with
+     * @param strategyFactory Creates a fresh strategy for each worker
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param algorithm The random algorithm each worker's dice use
+     * @param pool The pool to run the simulation on
+     */
+    public ParallelSimulator(int initialBalance, Supplier<? extends BettingStrategy> strategyFactory,
+                             int maxRoundsPerSession, DiceAlgorithm algorithm, ForkJoinPool pool) {
+        if (initialBalance <= 0) {
+            throw new IllegalArgumentException("Initial balance must be positive");
+        }
+        if (maxRoundsPerSession <= 0) {
+            throw new IllegalArgumentException("Max rounds per session must be positive");
+        }
+        this.initialBalance = initialBalance;
+        this.strategyFactory = strategyFactory;
+        this.maxRoundsPerSession = maxRoundsPerSession;
+        this.algorithm = algorithm;
+        this.pool = pool;
+    }
+
+    /**
+     * Plays the given number of sessions with a randomly chosen seed.
+     * @param sessions The number of sessions to play
+     * @return the merged result of all sessions
+     */
+    public SimulationResult run(long sessions) {
+        return run(sessions, new SplittableRandom());
+    }
+
+    /**
+     * Plays the given number of sessions reproducibly from a seed.
+     * @param sessions The number of sessions to play
+     * @param seed The seed of the root random stream
+     * @return the merged result of all sessions
+     */
+    public SimulationResult run(long sessions, long seed) {
+        return run(sessions, new SplittableRandom(seed));
+    }
+
+    private SimulationResult run(long sessions, SplittableRandom random) {
+        if (sessions < 0) {
+            throw new IllegalArgumentException("Session count must not be negative");
+        }
+        return pool.invoke(new SessionTask(sessions, random));
+    }
+
+    /**
+     * Plays a range of sessions, splitting it in half (along with its random stream)
+     * until it is small enough to run sequentially.
+     */
+    private class SessionTask extends RecursiveTask<SimulationResult> {
+        private final long sessions;
+        private final SplittableRandom random;
+
+        SessionTask(long sessions, SplittableRandom random) {
+            this.sessions = sessions;
+            this.random = random;
+        }
+
+        @Override
+        protected SimulationResult compute() {
+            if (sessions <= SESSIONS_PER_TASK) {
+                Simulator simulator = new Simulator(initialBalance, strategyFactory.get(),
+                        maxRoundsPerSession, new Dice(algorithm.create(random.nextLong())));
+                return simulator.run(sessions);
+            }
+            long half = sessions / 2;
+            SessionTask left = new SessionTask(half, random.split());
+            SessionTask right = new SessionTask(sessions - half, random);
+            left.fork();
+            SimulationResult result = right.compute();
+            return result.merge(left.join());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Betting strategy that doubles the bet after every win, up to a run of consecutive wins,
+ * and returns to the base bet after a loss or once the run is complete.
+ */
+public class ParoliStrategy implements BettingStrategy {
+    private final int baseBet;
+    private final int maxWins;
+    private int wins;
+
+    /**
+     * Creates a Paroli strategy that banks its winnings after three wins in a row.
+     * @param baseBet The bet after a loss and at the start of a session
+     */
+    public ParoliStrategy(int baseBet) {
+        this(baseBet, 3);
+    }
+
+    /**
+     * Creates a Paroli strategy.
+     * @param baseBet The bet after a loss and at the start of a session
+     * @param maxWins The number of consecutive wins after which the bet returns to the base bet
+     */
+    public ParoliStrategy(int baseBet, int maxWins) {
+        if (maxWins <= 0 || maxWins > Integer.numberOfLeadingZeros(baseBet)) {
+            throw new IllegalArgumentException("Invalid win streak length: " + maxWins);
+        }
+        this.baseBet = baseBet;
+        this.maxWins = maxWins;
+    }
+
+    @Override
+    public int nextBet(int balance) {
+        return baseBet << wins;
+    }
+
+    @Override
+    public void onRoundResolved(boolean won, int bet) {
+        wins = won && wins + 1 < maxWins ? wins + 1 : 0;
+    }
+
+    @Override
+    public void reset() {
+        wins = 0;
+    }
+
+    public int getBaseBet() {
+        return baseBet;
+    }
+
+    public int getMaxWins() {
+        return maxWins;
+    }
+}
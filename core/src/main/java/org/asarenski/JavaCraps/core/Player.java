@@ -38,6 +38,16 @@ public class Player {
         currentBet = 0;
     }
 
+    /**
+     * Restores the balance and bet in play, e.g. from a snapshot.
+     * @param balance The balance, excluding the bet in play
+     * @param currentBet The bet in play, or 0 if none
+     */
+    public void restore(int balance, int currentBet) {
+        this.balance = balance;
+        this.currentBet = currentBet;
+    }
+
     /**
      * Attempts to place a bet.
      * @param amount The amount to bet
@@ -63,6 +73,30 @@ public class Player {
         currentBet = 0;
     }
 
+    /**
+     * Takes money from the balance without changing the bet in play, e.g. for a side wager.
+     * @param amount The amount to take
+     * @throws IllegalArgumentException if the amount is negative or exceeds the balance
+     */
+    public void withdraw(int amount) {
+        if (amount < 0 || amount > balance) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+        balance -= amount;
+    }
+
+    /**
+     * Adds money to the balance without changing the bet in play, e.g. a side wager's payout.
+     * @param amount The amount to add
+     * @throws IllegalArgumentException if the amount is negative
+     */
+    public void deposit(int amount) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("Invalid amount: " + amount);
+        }
+        balance += amount;
+    }
+
     /**
      * Checks if the player can place the specified bet.
      * @param amount The amount to check
@@ -108,4 +142,8 @@ public class Player {
     public static int getMinimumBet() {
         return MINIMUM_BET;
     }
+
+    public static int getWinningBalance() {
+        return WINNING_BALANCE;
+    }
 } 
\ No newline at end of file
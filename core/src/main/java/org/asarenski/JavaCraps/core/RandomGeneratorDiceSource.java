@@ -0,0 +1,26 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Dice source backed by any {@link RandomGenerator}.
+ * Each roll takes one 64-bit draw and maps it onto the 36 possible dice pairs
+ * with a multiply-high, avoiding the division and rejection loop of two
+ * {@code nextInt(6)} calls. The resulting bias is below 2^-58 per pair.
+ */
+public class RandomGeneratorDiceSource implements DiceSource {
+    private final RandomGenerator random;
+
+    /**
+     * Creates a dice source that draws from the given generator.
+     * @param random The generator to draw from
+     */
+    public RandomGeneratorDiceSource(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int rollPair() {
+        return (int) Math.unsignedMultiplyHigh(random.nextLong(), PAIR_COUNT);
+    }
+}
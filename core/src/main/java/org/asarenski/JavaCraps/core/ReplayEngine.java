@@ -0,0 +1,344 @@
+package org.asarenski.JavaCraps.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Rebuilds the {@link Player}, {@link RoundState} and {@link RoundEngine} of a recorded session
+ * from its {@link RollJournal}, without any console I/O.
+ * Opening the journal scans it once and keeps a checkpoint (round, record index and balance) at
+ * the start of every session and every {@code checkpointInterval} rounds, so {@link #seek(long)}
+ * only replays the rounds since the nearest checkpoint instead of the whole journal. Rounds are
+ * numbered across all sessions of the journal, and each session starts a new player with the
+ * recorded starting balance. Every replayed roll runs
+ * through a real {@link RoundEngine} fed with the recorded dice, and must reproduce the recorded
+ * outcome and balance. For seeded journals, {@link #verifySeed()} additionally checks that
+ * the recorded dice are exactly the ones the seed produces.
+ */
+public class ReplayEngine implements AutoCloseable {
+    /** Number of rounds between checkpoints when none is specified. */
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1024;
+    private static final String PLAYER_NAME = "Replay";
+
+    private final RollJournalReader reader;
+    private final int checkpointInterval;
+    private long[] checkpointRounds = new long[16];
+    private long[] checkpointRecords = new long[16];
+    private int[] checkpointBalances = new int[16];
+    private int checkpointCount;
+    // Record indexes of session starts, ascending
+    private long[] sessionStarts = new long[16];
+    private int sessionCount;
+    private long recordCount;
+    private long rollCount;
+    private long roundCount;
+
+    // Current replay position
+    private Player player;
+    private RoundEngine engine;
+    private long round;
+    private long record;
+
+    // The record being replayed, loaded by the reader
+    private final RollListener loader = new RollListener() {
+        @Override
+        public void onSessionStart(int balance) {
+            rollLoaded = false;
+            ReplayEngine.this.balance = balance;
+        }
+
+        @Override
+        public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+            load(die1, die2, point, outcome, bet, balance);
+        }
+    };
+    private boolean rollLoaded;
+    private int pair;
+    private int point;
+    private RoundState.Outcome outcome;
+    private int bet;
+    private int balance;
+
+    /**
+     * Opens a journal for replay with the default checkpoint interval.
+     * @param journal The journal file
+     * @throws IOException if the journal cannot be read
+     */
+    public ReplayEngine(Path journal) throws IOException {
+        this(journal, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Opens a journal for replay.
+     * @param journal The journal file
+     * @param checkpointInterval The number of rounds between checkpoints
+     * @throws IOException if the journal cannot be read
+     */
+    public ReplayEngine(Path journal, int checkpointInterval) throws IOException {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpointInterval = checkpointInterval;
+        this.reader = new RollJournalReader(journal);
+        try {
+            index();
+            seek(0);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Scans the journal, counting rounds and recording checkpoints.
+     */
+    private void index() throws IOException {
+        reader.readAll(new RollListener() {
+            private boolean roundStart = true;
+
+            @Override
+            public void onSessionStart(int balance) {
+                sessionStarts = append(sessionStarts, sessionCount++, recordCount);
+                addCheckpoint(roundCount, recordCount, balance);
+                roundStart = true;
+                recordCount++;
+            }
+
+            @Override
+            public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+                if (roundStart) {
+                    if (checkpointCount == 0 || roundCount - checkpointRounds[checkpointCount - 1] >= checkpointInterval) {
+                        addCheckpoint(roundCount, recordCount, balanceBeforeBet(outcome, bet, balance));
+                    }
+                    roundCount++;
+                }
+                roundStart = outcome != RoundState.Outcome.CONTINUE;
+                recordCount++;
+                rollCount++;
+            }
+        });
+        if (checkpointCount == 0) {
+            addCheckpoint(0, 0, reader.getHeader().initialBalance());
+        }
+    }
+
+    private void addCheckpoint(long round, long record, int balance) {
+        if (checkpointCount > 0 && checkpointRounds[checkpointCount - 1] == round) {
+            checkpointCount--; // A session without rolls; the later checkpoint replaces it
+        }
+        checkpointRounds = append(checkpointRounds, checkpointCount, round);
+        checkpointRecords = append(checkpointRecords, checkpointCount, record);
+        if (checkpointCount == checkpointBalances.length) {
+            checkpointBalances = Arrays.copyOf(checkpointBalances, checkpointCount * 2);
+        }
+        checkpointBalances[checkpointCount] = balance;
+        checkpointCount++;
+    }
+
+    private static long[] append(long[] values, int count, long value) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, count * 2);
+        }
+        values[count] = value;
+        return values;
+    }
+
+    private boolean isSessionStart(long record) {
+        return Arrays.binarySearch(sessionStarts, 0, sessionCount, record) >= 0;
+    }
+
+    /**
+     * Derives the balance before a round's bet from the round's first record.
+     */
+    private static int balanceBeforeBet(RoundState.Outcome outcome, int bet, int balance) {
+        return outcome == RoundState.Outcome.WIN ? balance - bet : balance + bet;
+    }
+
+    /**
+     * Positions the replay at the start of a round, before its bet is placed.
+     * @param round The zero-based round index, at most {@link #getRoundCount()}
+     * @throws IOException if the journal cannot be read
+     * @throws IllegalStateException if the journal is inconsistent with the game rules
+     */
+    public void seek(long round) throws IOException {
+        if (round < 0 || round > roundCount) {
+            throw new IllegalArgumentException("Round out of range: " + round);
+        }
+        int checkpoint = Arrays.binarySearch(checkpointRounds, 0, checkpointCount, round);
+        if (checkpoint < 0) {
+            checkpoint = -checkpoint - 2; // The last checkpoint before the round
+        }
+        startSession(checkpointBalances[checkpoint]);
+        this.round = checkpointRounds[checkpoint];
+        this.record = checkpointRecords[checkpoint];
+        reader.seek(record);
+        replayRounds(round - this.round);
+        engine.resetRound();
+    }
+
+    /**
+     * Replays complete rounds from the current position.
+     * @param rounds The maximum number of rounds to replay
+     * @return the number of rounds replayed, fewer if the journal ends
+     * @throws IOException if the journal cannot be read
+     * @throws IllegalStateException if the journal is inconsistent with the game rules
+     */
+    public long replayRounds(long rounds) throws IOException {
+        long replayed = 0;
+        while (replayed < rounds && round < roundCount) {
+            while (isSessionStart(record)) {
+                readRecord();
+                record++;
+                startSession(balance);
+            }
+            engine.resetRound();
+            do {
+                replayRoll();
+            } while (!engine.isGameOver() && record < recordCount && !isSessionStart(record));
+            round++;
+            replayed++;
+        }
+        return replayed;
+    }
+
+    /**
+     * Replays every remaining round.
+     * @return the number of rounds replayed
+     * @throws IOException if the journal cannot be read
+     * @throws IllegalStateException if the journal is inconsistent with the game rules
+     */
+    public long replayToEnd() throws IOException {
+        return replayRounds(Long.MAX_VALUE);
+    }
+
+    private void startSession(int balance) {
+        player = new Player(PLAYER_NAME, balance);
+        engine = new RoundEngine(player, new Dice(() -> pair));
+    }
+
+    /**
+     * Loads the next record, which the index says exists.
+     * @throws EOFException if the journal has been truncated since it was opened
+     */
+    private void readRecord() throws IOException {
+        if (!reader.next(loader)) {
+            throw new EOFException("Journal ends at record " + record + " of " + recordCount);
+        }
+    }
+
+    private void replayRoll() throws IOException {
+        readRecord();
+        if (player.getCurrentBet() == 0 && !player.placeBet(bet)) {
+            throw divergence("bet of " + bet + " cannot be placed");
+        }
+        if (engine.getRoundState().getPoint() != point) {
+            throw divergence("point " + engine.getRoundState().getPoint() + " but recorded " + point);
+        }
+        engine.rollDice();
+        if (engine.getLastOutcome() != outcome || player.getBalance() != balance) {
+            throw divergence(engine.getLastOutcome() + " with balance " + player.getBalance()
+                + " but recorded " + outcome + " with balance " + balance);
+        }
+        record++;
+    }
+
+    private void load(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+        this.rollLoaded = true;
+        this.pair = (die1 - 1) * 6 + die2 - 1;
+        this.point = point;
+        this.outcome = outcome;
+        this.bet = bet;
+        this.balance = balance;
+    }
+
+    private IllegalStateException divergence(String detail) {
+        return new IllegalStateException("Journal diverges at record " + record + " (round " + round + "): " + detail);
+    }
+
+    /**
+     * Checks that every recorded roll is the one produced by the seed in the journal header.
+     * Does not change the replay position.
+     * @return the index of the first roll that differs, or -1 if all rolls match
+     * @throws IOException if the journal cannot be read
+     * @throws IllegalStateException if the journal is not seeded
+     */
+    public long verifySeed() throws IOException {
+        JournalHeader header = reader.getHeader();
+        if (!header.isSeeded()) {
+            throw new IllegalStateException("Journal has no recorded seed");
+        }
+        DiceSource source = header.algorithm().create(header.seed());
+        reader.seek(0);
+        try {
+            long index = 0;
+            while (reader.next(loader)) {
+                if (!rollLoaded) {
+                    continue; // A session start; the dice stream carries on across sessions
+                }
+                if (pair != source.rollPair()) {
+                    return index;
+                }
+                index++;
+            }
+            return -1;
+        } finally {
+            reader.seek(record);
+        }
+    }
+
+    /**
+     * Gets the player as of the current replay position.
+     * @return the replayed player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the engine as of the current replay position. Its dice are fed from the journal,
+     * so it must only be advanced through this replay engine.
+     * @return the replayed round engine
+     */
+    public RoundEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the session metadata recorded in the journal.
+     * @return the journal header
+     */
+    public JournalHeader getHeader() {
+        return reader.getHeader();
+    }
+
+    /**
+     * Gets the index of the next round to replay.
+     * @return the current round
+     */
+    public long getRound() {
+        return round;
+    }
+
+    /**
+     * Gets the number of rounds in the journal across all sessions, including unfinished rounds.
+     * @return the round count
+     */
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    /**
+     * Gets the number of rolls in the journal.
+     * @return the roll count
+     */
+    public long getRollCount() {
+        return rollCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,19 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * The columns of a columnar roll file written by {@link ColumnarRollWriter}, in file order.
+ */
+public enum RollColumn {
+    /** The dice as a pair index, {@code (die1 - 1) * 6 + die2 - 1}. */
+    DICE,
+    /** The point in effect before the roll, or 0 on the come-out roll. */
+    POINT,
+    /** The ordinal of the roll's {@link RoundState.Outcome}. */
+    OUTCOME,
+    /** The amount at stake in the round. */
+    BET,
+    /** The player's balance after the roll was settled. */
+    BALANCE,
+    /** The balance the session started with on its first roll, -1 on every other roll. */
+    SESSION_START
+}
@@ -0,0 +1,165 @@
+package org.asarenski.JavaCraps.core;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only binary journal of every roll, written through a memory-mapped file.
+ * Each roll is a fixed-size record copied into the mapping, so recording costs no system
+ * call and no formatting; mapped pages are forced to disk every {@code flushInterval}
+ * records and when the journal is closed. Register it with
+ * {@link RoundEngine#addRollListener(RollListener)} or {@link Simulator#addRollListener(RollListener)}
+ * and read it back with {@link RollJournalReader}.
+ * <p>
+ * Layout: a 32-byte header (magic, version, record size, seed, initial balance, dice
+ * algorithm ordinal or -1, see {@link JournalHeader}, and the number of records) followed by
+ * 12-byte records of die1, die2, point before the roll and outcome ordinal as bytes, then bet
+ * and balance as ints. The start of a session is recorded as a record whose die1 is
+ * {@link #SESSION_START} and whose balance is the session's starting balance.
+ * The record count is updated whenever the records are forced to disk, and readers stop there;
+ * the file is not trimmed, since a file cannot portably be truncated while it is still mapped,
+ * so it ends in zero-filled mapped space.
+ * The balance change of a roll is {@code +bet} for a win, {@code -bet} for a loss and 0 otherwise,
+ * relative to the balance before the bet was placed.
+ */
+public class RollJournal implements RollListener, AutoCloseable {
+    static final int MAGIC = 0x4A43524A; // "JCRJ"
+    static final short VERSION = 2;
+    static final int HEADER_SIZE = 32;
+    static final int RECORD_COUNT_OFFSET = 24;
+    static final int RECORD_SIZE = 12;
+    static final byte SESSION_START = -1;
+    private static final int REGION_SIZE = 1 << 20;
+    private static final int DEFAULT_FLUSH_INTERVAL = 4096;
+
+    private final FileChannel channel;
+    private final int flushInterval;
+    private final ByteBuffer count = ByteBuffer.allocate(Long.BYTES);
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long recordCount;
+    private int unflushed;
+
+    /**
+     * Creates a journal without session metadata that replaces any existing file at the path.
+     * @param path The journal file
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public RollJournal(Path path) throws IOException {
+        this(path, JournalHeader.UNSEEDED);
+    }
+
+    /**
+     * Creates a journal that replaces any existing file at the path.
+     * @param path The journal file
+     * @param header The session metadata to record
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public RollJournal(Path path, JournalHeader header) throws IOException {
+        this(path, header, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a journal that replaces any existing file at the path.
+     * @param path The journal file
+     * @param header The session metadata to record
+     * @param flushInterval The number of records written between forces to disk
+     * @throws IOException if the file cannot be created or mapped
+     */
+    public RollJournal(Path path, JournalHeader header, int flushInterval) throws IOException {
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.flushInterval = flushInterval;
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        map(0);
+        region.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE)
+            .putLong(header.seed()).putInt(header.initialBalance())
+            .putInt(header.isSeeded() ? header.algorithm().ordinal() : -1)
+            .putLong(0);
+    }
+
+    private void map(long position) throws IOException {
+        regionStart = position;
+        region = channel.map(FileChannel.MapMode.READ_WRITE, position, REGION_SIZE);
+    }
+
+    @Override
+    public void onSessionStart(int balance) {
+        append(SESSION_START, 0, 0, 0, 0, balance);
+    }
+
+    @Override
+    public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+        append((byte) die1, die2, point, outcome.ordinal(), bet, balance);
+    }
+
+    private void append(byte die1, int die2, int point, int outcome, int bet, int balance) {
+        if (region.remaining() < RECORD_SIZE) {
+            nextRegion();
+        }
+        region.put(die1).put((byte) die2).put((byte) point).put((byte) outcome)
+            .putInt(bet).putInt(balance);
+        recordCount++;
+        if (++unflushed >= flushInterval) {
+            flush();
+        }
+    }
+
+    private void nextRegion() {
+        region.force();
+        try {
+            map(regionStart + region.position());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Forces all records written so far to disk, then records their count in the header.
+     * @throws UncheckedIOException if the header cannot be written
+     */
+    public void flush() {
+        region.force();
+        try {
+            count.clear().putLong(recordCount).flip();
+            while (count.hasRemaining()) {
+                channel.write(count, RECORD_COUNT_OFFSET + count.position());
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        unflushed = 0;
+    }
+
+    /**
+     * Gets the number of records written, session starts included.
+     * @return the record count
+     */
+    public long getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Flushes the journal and closes the file.
+     * @throws IOException if the file cannot be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+        try (channel) {
+            flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
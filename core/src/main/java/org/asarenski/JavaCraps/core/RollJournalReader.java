@@ -0,0 +1,150 @@
+package org.asarenski.JavaCraps.core;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads a journal written by {@link RollJournal}, passing each roll to
+ * {@link RollListener#onRoll} and each session start to {@link RollListener#onSessionStart}.
+ * Reading stops after the record count stored in the header, which only covers records forced
+ * to disk, or at the first zero-filled record, since a valid record never has a zero die.
+ */
+public class RollJournalReader implements AutoCloseable {
+    private static final int RECORDS_PER_READ = 4096;
+    private static final RoundState.Outcome[] OUTCOMES = RoundState.Outcome.values();
+    private static final DiceAlgorithm[] ALGORITHMS = DiceAlgorithm.values();
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(RECORDS_PER_READ * RollJournal.RECORD_SIZE);
+    private final JournalHeader header;
+    private final long recordCount;
+    private long record;
+    private boolean ended;
+
+    /**
+     * Opens a journal and validates its header.
+     * @param path The journal file
+     * @throws IOException if the file cannot be read or is not a roll journal
+     */
+    public RollJournalReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer fields = read(RollJournal.HEADER_SIZE);
+            if (fields.getInt() != RollJournal.MAGIC || fields.getShort() != RollJournal.VERSION
+                    || fields.getShort() != RollJournal.RECORD_SIZE) {
+                throw new IOException("Not a roll journal: " + path);
+            }
+            long seed = fields.getLong();
+            int initialBalance = fields.getInt();
+            int algorithm = fields.getInt();
+            if (algorithm < -1 || algorithm >= ALGORITHMS.length) {
+                throw new IOException("Invalid dice algorithm " + algorithm + " in roll journal: " + path);
+            }
+            header = new JournalHeader(algorithm < 0 ? null : ALGORITHMS[algorithm], seed, initialBalance);
+            recordCount = fields.getLong();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        buffer.limit(0);
+    }
+
+    private ByteBuffer read(int length) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(length);
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes) < 0) {
+                throw new EOFException("Truncated roll journal header");
+            }
+        }
+        return bytes.flip();
+    }
+
+    /**
+     * Gets the session metadata recorded in the journal header.
+     * @return the header
+     */
+    public JournalHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Positions the reader so the next record read is the given one.
+     * @param record The zero-based index of the record
+     * @throws IOException if the file cannot be positioned
+     */
+    public void seek(long record) throws IOException {
+        channel.position(RollJournal.HEADER_SIZE + record * RollJournal.RECORD_SIZE);
+        buffer.limit(0);
+        this.record = record;
+        ended = false;
+    }
+
+    /**
+     * Reads the next record, a roll or the start of a session.
+     * @param listener The listener to pass the record to
+     * @return true if a record was read, false at the end of the journal
+     * @throws IOException if the file cannot be read
+     */
+    public boolean next(RollListener listener) throws IOException {
+        if (record >= recordCount || buffer.remaining() < RollJournal.RECORD_SIZE && !fill()) {
+            return false;
+        }
+        int die1 = buffer.get();
+        if (die1 == 0) {
+            ended = true;
+            return false;
+        }
+        int die2 = buffer.get();
+        int point = buffer.get();
+        int outcome = buffer.get();
+        int bet = buffer.getInt();
+        int balance = buffer.getInt();
+        record++;
+        if (die1 == RollJournal.SESSION_START) {
+            listener.onSessionStart(balance);
+        } else if (outcome < 0 || outcome >= OUTCOMES.length) {
+            throw new IOException("Corrupt roll journal record " + (record - 1) + ": outcome " + outcome);
+        } else {
+            listener.onRoll(die1, die2, point, OUTCOMES[outcome], bet, balance);
+        }
+        return true;
+    }
+
+    /**
+     * Reads every remaining record.
+     * @param listener The listener to pass the records to
+     * @return the number of records read, session starts included
+     * @throws IOException if the file cannot be read
+     */
+    public long readAll(RollListener listener) throws IOException {
+        long count = 0;
+        while (next(listener)) {
+            count++;
+        }
+        return count;
+    }
+
+    private boolean fill() throws IOException {
+        if (ended) {
+            return false;
+        }
+        buffer.compact();
+        while (buffer.position() < RollJournal.RECORD_SIZE) {
+            if (channel.read(buffer) < 0) {
+                ended = true;
+                break;
+            }
+        }
+        buffer.flip();
+        return buffer.remaining() >= RollJournal.RECORD_SIZE;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,78 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Per-step loops of the {@link BatchSimulator}, applied to every live lane at once.
+ * The scalar implementation is always available; a SIMD implementation based on the
+ * incubating Vector API is used when the {@code jdk.incubator.vector} module is enabled
+ * (for example with {@code --add-modules jdk.incubator.vector}). Both produce identical results.
+ */
+interface RollKernel {
+    /** Module providing the Vector API. */
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    /** Set this system property to {@code false} to force the scalar kernel. */
+    String SIMD_PROPERTY = "javacraps.simd";
+
+    long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    long MIX_MULTIPLIER_1 = 0xBF58476D1CE4E5B9L;
+    long MIX_MULTIPLIER_2 = 0x94D049BB133111EBL;
+    long LOW_32_BITS = 0xFFFFFFFFL;
+
+    /**
+     * Rolls two dice for every lane from per-lane SplitMix64 streams.
+     * Each lane's state advances by one step; the high and low 32 bits of the mixed
+     * output each select one die.
+     * @param count The number of live lanes
+     * @param states The per-lane generator states, updated in place
+     * @param totals Receives the dice total for each lane
+     */
+    void roll(int count, long[] states, int[] totals);
+
+    /**
+     * Resolves one roll for every lane through a rule table.
+     * @param count The number of live lanes
+     * @param transitions The packed rule table transitions
+     * @param points The per-lane points, updated in place
+     * @param totals The per-lane dice totals
+     * @param outcomes Receives the per-lane outcome ordinals
+     * @param wagers The per-lane wagers
+     * @param balances The per-lane balances, credited in place on a win
+     */
+    void resolve(int count, int[] transitions, int[] points, int[] totals, int[] outcomes,
+                 int[] wagers, int[] balances);
+
+    /**
+     * Selects the fastest kernel available in this JVM.
+     * @param lanes The number of lanes the kernel will process
+     * @return the SIMD kernel if the Vector API is enabled, the scalar kernel otherwise
+     */
+    static RollKernel select(int lanes) {
+        boolean simdAllowed = !"false".equalsIgnoreCase(System.getProperty(SIMD_PROPERTY));
+        if (simdAllowed && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            // Only referenced here, so the class is never loaded without the module
+            return new VectorRollKernel(lanes);
+        }
+        return ScalarRollKernel.INSTANCE;
+    }
+
+    /**
+     * Mixes a SplitMix64 state into a 64-bit random value.
+     * @param state The generator state
+     * @return the mixed output
+     */
+    static long mix(long state) {
+        long z = (state ^ (state >>> 30)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> 27)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Converts a 64-bit random value into the total of two dice.
+     * @param random The random value
+     * @return the dice total (2-12)
+     */
+    static int diceTotal(long random) {
+        long die1 = ((random >>> 32) * 6) >>> 32;
+        long die2 = ((random & LOW_32_BITS) * 6) >>> 32;
+        return (int) (die1 + die2) + 2;
+    }
+}
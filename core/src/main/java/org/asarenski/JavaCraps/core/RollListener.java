@@ -0,0 +1,56 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Receives every roll made by a {@link RoundEngine}, after it has been resolved and settled.
+ * Listeners run on the rolling thread, so implementations should be cheap and must not
+ * allocate or block if the engine is used on a hot path.
+ */
+@FunctionalInterface
+public interface RollListener {
+    /** Listener that ignores every roll. */
+    RollListener NONE = (die1, die2, point, outcome, bet, balance) -> { };
+
+    /**
+     * Called once per roll.
+     * @param die1 The value of the first die
+     * @param die2 The value of the second die
+     * @param point The point in effect before the roll, or 0 on the come-out roll
+     * @param outcome The outcome of the roll
+     * @param bet The amount at stake in the round
+     * @param balance The player's balance after the roll was settled
+     */
+    void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance);
+
+    /**
+     * Called by drivers that play several sessions, such as {@link Simulator}, before each
+     * session's first roll. Does nothing by default.
+     * @param balance The balance the session starts with
+     */
+    default void onSessionStart(int balance) {
+    }
+
+    /**
+     * Returns a listener that notifies this listener and then the given one.
+     * @param next The listener to notify second
+     * @return the combined listener
+     */
+    default RollListener andThen(RollListener next) {
+        if (this == NONE) {
+            return next;
+        }
+        RollListener first = this;
+        return new RollListener() {
+            @Override
+            public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+                first.onRoll(die1, die2, point, outcome, bet, balance);
+                next.onRoll(die1, die2, point, outcome, bet, balance);
+            }
+
+            @Override
+            public void onSessionStart(int balance) {
+                first.onSessionStart(balance);
+                next.onSessionStart(balance);
+            }
+        };
+    }
+}
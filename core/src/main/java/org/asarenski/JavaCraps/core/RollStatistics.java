@@ -0,0 +1,185 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Streaming statistics over the rolls of one or more sessions, in constant memory.
+ * Register it with {@link RoundEngine#addRollListener(RollListener)} or
+ * {@link Simulator#addRollListener(RollListener)}. It tracks the distribution of roll totals,
+ * round lengths and round results, win/loss streaks and bankroll drawdown.
+ * <p>
+ * An instance is not thread-safe: give each thread its own and combine them with
+ * {@link #merge(RollStatistics)}. Streaks and drawdowns are tracked per session, from
+ * {@link #onSessionStart(int)} or the first roll, so merging keeps the longest streaks and the
+ * deepest drawdown of either side rather than joining sessions end to end.
+ */
+public class RollStatistics implements RollListener {
+    private final long[] totalCounts = new long[RuleTable.TOTALS];
+    private final RunningStatistics rollTotals = new RunningStatistics();
+    private final RunningStatistics roundResults = new RunningStatistics();
+    private final LogHistogram roundLengths = new LogHistogram();
+    private final LogHistogram sessionDrawdowns = new LogHistogram();
+    private long wins;
+    private long losses;
+    private int longestWinStreak;
+    private int longestLossStreak;
+    private int maxDrawdown;
+
+    // Current session
+    private boolean inSession;
+    private int rollsInRound;
+    private int streak; // Positive for consecutive wins, negative for losses
+    private int peakBalance;
+    private int sessionDrawdown;
+
+    @Override
+    public void onSessionStart(int balance) {
+        endSession();
+        inSession = true;
+        rollsInRound = 0;
+        streak = 0;
+        peakBalance = balance;
+        sessionDrawdown = 0;
+    }
+
+    @Override
+    public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+        if (!inSession) {
+            onSessionStart(outcome == RoundState.Outcome.WIN ? balance - bet : balance + bet);
+        }
+        int total = die1 + die2;
+        totalCounts[total]++;
+        rollTotals.add(total);
+        rollsInRound++;
+        if (outcome == RoundState.Outcome.CONTINUE) {
+            return;
+        }
+
+        boolean won = outcome == RoundState.Outcome.WIN;
+        roundLengths.record(rollsInRound);
+        roundResults.add(won ? bet : -bet);
+        rollsInRound = 0;
+        if (won) {
+            wins++;
+            streak = streak > 0 ? streak + 1 : 1;
+            longestWinStreak = Math.max(longestWinStreak, streak);
+        } else {
+            losses++;
+            streak = streak < 0 ? streak - 1 : -1;
+            longestLossStreak = Math.max(longestLossStreak, -streak);
+        }
+        peakBalance = Math.max(peakBalance, balance);
+        sessionDrawdown = Math.max(sessionDrawdown, peakBalance - balance);
+        maxDrawdown = Math.max(maxDrawdown, sessionDrawdown);
+    }
+
+    private void endSession() {
+        if (inSession) {
+            sessionDrawdowns.record(sessionDrawdown);
+            inSession = false;
+        }
+    }
+
+    /**
+     * Adds everything recorded by another instance to this one. The other instance's
+     * current session is counted as finished.
+     * @param other The statistics to merge in
+     * @return this instance
+     */
+    public RollStatistics merge(RollStatistics other) {
+        other.endSession();
+        for (int total = 0; total < RuleTable.TOTALS; total++) {
+            totalCounts[total] += other.totalCounts[total];
+        }
+        rollTotals.merge(other.rollTotals);
+        roundResults.merge(other.roundResults);
+        roundLengths.merge(other.roundLengths);
+        sessionDrawdowns.merge(other.sessionDrawdowns);
+        wins += other.wins;
+        losses += other.losses;
+        longestWinStreak = Math.max(longestWinStreak, other.longestWinStreak);
+        longestLossStreak = Math.max(longestLossStreak, other.longestLossStreak);
+        maxDrawdown = Math.max(maxDrawdown, other.maxDrawdown);
+        return this;
+    }
+
+    public long getRolls() {
+        return rollTotals.getCount();
+    }
+
+    /**
+     * Gets how often a dice total was rolled.
+     * @param total The dice total, from 2 to 12
+     * @return the number of rolls with that total
+     */
+    public long getRollCount(int total) {
+        return totalCounts[total];
+    }
+
+    /**
+     * Gets the running mean and variance of roll totals.
+     * @return the roll total statistics
+     */
+    public RunningStatistics getRollTotals() {
+        return rollTotals;
+    }
+
+    public long getRounds() {
+        return wins + losses;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    /**
+     * Gets the distribution of the number of rolls per resolved round.
+     * @return the round length histogram
+     */
+    public LogHistogram getRoundLengths() {
+        return roundLengths;
+    }
+
+    /**
+     * Gets the running mean and variance of each round's net result (+bet or -bet).
+     * @return the round result statistics
+     */
+    public RunningStatistics getRoundResults() {
+        return roundResults;
+    }
+
+    public int getLongestWinStreak() {
+        return longestWinStreak;
+    }
+
+    public int getLongestLossStreak() {
+        return longestLossStreak;
+    }
+
+    /**
+     * Gets the current streak of the session in progress.
+     * @return the number of consecutive wins (positive) or losses (negative) so far
+     */
+    public int getCurrentStreak() {
+        return streak;
+    }
+
+    /**
+     * Gets the largest drop from a peak balance to a later balance within any session.
+     * @return the maximum drawdown
+     */
+    public int getMaxDrawdown() {
+        return maxDrawdown;
+    }
+
+    /**
+     * Gets the distribution of each finished session's maximum drawdown. A session is finished
+     * when the next one starts or when this instance is merged into another.
+     * @return the session drawdown histogram
+     */
+    public LogHistogram getSessionDrawdowns() {
+        return sessionDrawdowns;
+    }
+}
@@ -7,11 +7,32 @@ public class RoundEngine {
     private final RoundState roundState;
     private final Player player;
     private final Dice dice;
+    private RoundState.Outcome lastOutcome = RoundState.Outcome.CONTINUE;
+    private RollListener rollListener = RollListener.NONE;
 
     public RoundEngine(Player player) {
-        this.roundState = new RoundState();
+        this(player, new Dice());
+    }
+
+    /**
+     * Creates a new RoundEngine that rolls the supplied dice.
+     * @param player The player for this round
+     * @param dice The dice to roll
+     */
+    public RoundEngine(Player player, Dice dice) {
+        this(player, dice, RuleTable.STANDARD);
+    }
+
+    /**
+     * Creates a new RoundEngine that rolls the supplied dice under the given rules.
+     * @param player The player for this round
+     * @param dice The dice to roll
+     * @param rules The rule table used to resolve rolls
+     */
+    public RoundEngine(Player player, Dice dice, RuleTable rules) {
+        this.roundState = new RoundState(rules);
         this.player = player;
-        this.dice = new Dice();
+        this.dice = dice;
     }
 
     /**
@@ -20,6 +41,32 @@ public class RoundEngine {
     public void resetRound() {
         roundState.reset();
         dice.reset();
+        lastOutcome = RoundState.Outcome.CONTINUE;
+    }
+
+    /**
+     * Restores the round and the last roll, e.g. from a snapshot. The player is restored separately.
+     * @param status The status of the round
+     * @param point The point in effect, or 0 on the come-out roll
+     * @param die1 The value of the first die of the last roll, or 0 if no roll has been made
+     * @param die2 The value of the second die of the last roll, or 0 if no roll has been made
+     */
+    public void restoreRound(RoundState.Status status, int point, int die1, int die2) {
+        roundState.restore(status, point);
+        dice.restore(die1, die2);
+        lastOutcome = switch (status) {
+            case WIN -> RoundState.Outcome.WIN;
+            case LOSE -> RoundState.Outcome.LOSE;
+            case PLAYING -> RoundState.Outcome.CONTINUE;
+        };
+    }
+
+    /**
+     * Gets the dice rolled by this engine.
+     * @return the dice
+     */
+    public Dice getDice() {
+        return dice;
     }
 
     /**
@@ -28,7 +75,16 @@ public class RoundEngine {
      * @return true if bet was successfully placed, false otherwise
      */
     public boolean placeBet(int amount) {
-        return player.placeBet(amount);
+        if (!player.placeBet(amount)) {
+            return false;
+        }
+        GameEvents.RoundStart event = new GameEvents.RoundStart();
+        if (event.isEnabled()) {
+            event.bet = amount;
+            event.balance = player.getBalance();
+            event.commit();
+        }
+        return true;
     }
 
     /**
@@ -37,13 +93,33 @@ public class RoundEngine {
      */
     public int rollDice() {
         int total = dice.roll();
-        Boolean outcome = roundState.checkOutcome(total);
-        if (outcome != null) {
-            player.updateBalance(outcome);
+        int point = roundState.getPoint();
+        int bet = player.getCurrentBet();
+        RoundState.Outcome outcome = roundState.resolve(total);
+        if (outcome != RoundState.Outcome.CONTINUE) {
+            player.updateBalance(outcome == RoundState.Outcome.WIN);
+            GameEvents.RoundResolved event = new GameEvents.RoundResolved();
+            if (event.isEnabled()) {
+                event.won = outcome == RoundState.Outcome.WIN;
+                event.bet = bet;
+                event.point = roundState.getPoint();
+                event.balance = player.getBalance();
+                event.commit();
+            }
         }
+        lastOutcome = outcome;
+        rollListener.onRoll(dice.getDie1(), dice.getDie2(), point, outcome, bet, player.getBalance());
         return total;
     }
 
+    /**
+     * Registers a listener notified after every roll, in addition to any already registered.
+     * @param listener The listener to add
+     */
+    public void addRollListener(RollListener listener) {
+        rollListener = rollListener.andThen(listener);
+    }
+
     /**
      * Gets the total value of the last dice roll.
      * @return The total of the last dice roll
@@ -52,6 +128,30 @@ public class RoundEngine {
         return dice.getValue();
     }
 
+    /**
+     * Gets the outcome of the last dice roll.
+     * @return the outcome of the last roll, or CONTINUE if no roll has been made this round
+     */
+    public RoundState.Outcome getLastOutcome() {
+        return lastOutcome;
+    }
+
+    /**
+     * Gets the value of the first die from the last roll.
+     * @return the value of the first die, or 0 if no roll has been made
+     */
+    public int getDie1() {
+        return dice.getDie1();
+    }
+
+    /**
+     * Gets the value of the second die from the last roll.
+     * @return the value of the second die, or 0 if no roll has been made
+     */
+    public int getDie2() {
+        return dice.getDie2();
+    }
+
     /**
      * Checks if the game is over (player has won or lost).
      * @return true if the game is over, false otherwise
@@ -72,6 +172,7 @@ public class RoundEngine {
 
     /**
      * Gets the values of both dice from the last roll.
+     * Allocates a new array on every call; per-roll code should use {@link #getDie1()} and {@link #getDie2()}.
      * @return an array containing the values of both dice [die1, die2]
      */
     public int[] getDiceValues() {
@@ -15,11 +15,33 @@ public class RoundState {
         LOSE
     }
 
+    /**
+     * Result of a single roll.
+     */
+    public enum Outcome {
+        WIN,
+        LOSE,
+        CONTINUE
+    }
+
+    // Status after a roll, indexed by Outcome ordinal
+    private static final Status[] STATUS_BY_OUTCOME = {Status.WIN, Status.LOSE, Status.PLAYING};
+
+    private final RuleTable rules;
     private Phase currentPhase;
     private Status gameStatus;
     private int point;
 
     public RoundState() {
+        this(RuleTable.STANDARD);
+    }
+
+    /**
+     * Creates a round state that resolves rolls with the given rules.
+     * @param rules The rule table to resolve rolls with
+     */
+    public RoundState(RuleTable rules) {
+        this.rules = rules;
         reset();
     }
 
@@ -32,6 +54,17 @@ public class RoundState {
         point = 0;
     }
 
+    /**
+     * Restores the state of a round, e.g. from a snapshot.
+     * @param status The status of the round
+     * @param point The point in effect, or 0 on the come-out roll
+     */
+    public void restore(Status status, int point) {
+        this.point = point;
+        currentPhase = point != 0 ? Phase.POINT_PHASE : Phase.COME_OUT_ROLL;
+        gameStatus = status;
+    }
+
     /**
      * Transitions the game to Point Phase with the specified point number.
      * @param point The point number established
@@ -47,26 +80,34 @@ public class RoundState {
      * @return true if the roll results in a win, false for a loss, null if the game continues
      */
     public Boolean checkOutcome(int roll) {
-        if (currentPhase == Phase.COME_OUT_ROLL) {
-            if (roll == 7 || roll == 11) {
-                gameStatus = Status.WIN;
-                return true;
-            } else if (roll == 2 || roll == 3 || roll == 12) {
-                gameStatus = Status.LOSE;
-                return false;
-            }
-            enterPointPhase(roll);
-            return null;
-        } else { // POINT_PHASE
-            if (roll == point) {
-                gameStatus = Status.WIN;
-                return true;
-            } else if (roll == 7) {
-                gameStatus = Status.LOSE;
-                return false;
+        return switch (resolve(roll)) {
+            case WIN -> Boolean.TRUE;
+            case LOSE -> Boolean.FALSE;
+            case CONTINUE -> null;
+        };
+    }
+
+    /**
+     * Resolves a roll based on the current phase, updating the phase, point and status.
+     * The transition comes from a single lookup in this state's {@link RuleTable}.
+     * @param roll The total value of the dice roll
+     * @return the outcome of the roll
+     * @throws IllegalArgumentException if the roll is outside 2-12 or the point is not a valid point
+     */
+    public Outcome resolve(int roll) {
+        int transition = rules.transition(point, roll);
+        int nextPoint = RuleTable.nextPointOf(transition);
+        if (nextPoint != point) {
+            enterPointPhase(nextPoint);
+            GameEvents.PointEstablished event = new GameEvents.PointEstablished();
+            if (event.isEnabled()) {
+                event.point = nextPoint;
+                event.commit();
             }
-            return null;
         }
+        Outcome outcome = RuleTable.outcomeOf(transition);
+        gameStatus = STATUS_BY_OUTCOME[outcome.ordinal()];
+        return outcome;
     }
 
     // Getters
@@ -81,4 +122,8 @@ public class RoundState {
     public int getPoint() {
         return point;
     }
+
+    public RuleTable getRules() {
+        return rules;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,137 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.Arrays;
+
+/**
+ * Immutable, precomputed pass line rules.
+ * Every (point, roll total) pair maps to a single packed transition holding the
+ * outcome of the roll and the point in effect afterwards, so resolving a roll is
+ * one array lookup. A point of 0 stands for the come-out roll.
+ * Rule variants are built by choosing which come-out totals win and lose; every
+ * other total establishes a point, which then wins on a repeat and loses on a seven.
+ */
+public final class RuleTable {
+    static final int TOTALS = 13;
+    static final int OUTCOME_BITS = 2;
+    static final int OUTCOME_MASK = (1 << OUTCOME_BITS) - 1;
+    private static final int SEVEN = 7;
+    // Marks pairs that cannot occur: a point that is never established or a total outside 2-12
+    private static final int INVALID = -1;
+    private static final RoundState.Outcome[] OUTCOMES = RoundState.Outcome.values();
+
+    /** Standard rules: 7 and 11 win, 2, 3 and 12 lose on the come-out roll. */
+    public static final RuleTable STANDARD = new RuleTable(new int[]{7, 11}, new int[]{2, 3, 12});
+
+    /** Crapless craps: only 7 wins on the come-out roll and every other total becomes the point. */
+    public static final RuleTable CRAPLESS = new RuleTable(new int[]{7}, new int[]{});
+
+    private final int[] transitions = new int[TOTALS * TOTALS];
+
+    /**
+     * Builds a rule table.
+     * @param naturals The totals that win on the come-out roll
+     * @param craps The totals that lose on the come-out roll
+     * @throws IllegalArgumentException if a total is outside 2-12, appears in both sets,
+     *         or seven does not resolve the come-out roll
+     */
+    public RuleTable(int[] naturals, int[] craps) {
+        Arrays.fill(transitions, INVALID);
+        RoundState.Outcome[] comeOut = new RoundState.Outcome[TOTALS];
+        for (int total : naturals) {
+            setComeOutOutcome(comeOut, total, RoundState.Outcome.WIN);
+        }
+        for (int total : craps) {
+            setComeOutOutcome(comeOut, total, RoundState.Outcome.LOSE);
+        }
+        if (comeOut[SEVEN] == null) {
+            throw new IllegalArgumentException("Seven must win or lose on the come-out roll");
+        }
+
+        for (int roll = 2; roll < TOTALS; roll++) {
+            transitions[roll] = comeOut[roll] == null
+                ? pack(roll, RoundState.Outcome.CONTINUE)
+                : pack(0, comeOut[roll]);
+        }
+        for (int point = 2; point < TOTALS; point++) {
+            if (comeOut[point] != null) {
+                continue; // Never established as a point
+            }
+            for (int roll = 2; roll < TOTALS; roll++) {
+                RoundState.Outcome outcome = roll == point ? RoundState.Outcome.WIN
+                    : roll == SEVEN ? RoundState.Outcome.LOSE
+                    : RoundState.Outcome.CONTINUE;
+                transitions[point * TOTALS + roll] = pack(point, outcome);
+            }
+        }
+    }
+
+    private static void setComeOutOutcome(RoundState.Outcome[] comeOut, int total, RoundState.Outcome outcome) {
+        if (total < 2 || total >= TOTALS) {
+            throw new IllegalArgumentException("Invalid dice total: " + total);
+        }
+        if (comeOut[total] != null) {
+            throw new IllegalArgumentException("Total " + total + " cannot both win and lose");
+        }
+        comeOut[total] = outcome;
+    }
+
+    private static int pack(int nextPoint, RoundState.Outcome outcome) {
+        return nextPoint << OUTCOME_BITS | outcome.ordinal();
+    }
+
+    /**
+     * Looks up the packed transition for a roll.
+     * @param point The current point, or 0 on the come-out roll
+     * @param roll The total value of the dice roll
+     * @return the packed transition, decoded with {@link #outcomeOf(int)} and {@link #nextPointOf(int)}
+     * @throws IllegalArgumentException if the roll is outside 2-12 or the point can never be established
+     */
+    public int transition(int point, int roll) {
+        int transition = point >= 0 && point < TOTALS && roll >= 0 && roll < TOTALS
+            ? transitions[point * TOTALS + roll]
+            : INVALID;
+        if (transition == INVALID) {
+            throw new IllegalArgumentException("Invalid roll " + roll + " for point " + point);
+        }
+        return transition;
+    }
+
+    /**
+     * Gets the backing transition array, indexed by {@code point * 13 + roll}, holding -1 for
+     * pairs that cannot occur.
+     * Shared with batch evaluators in this package and must not be modified.
+     * @return the packed transitions
+     */
+    int[] transitions() {
+        return transitions;
+    }
+
+    /**
+     * Decodes the outcome of a packed transition.
+     * @param transition A value returned by {@link #transition(int, int)}
+     * @return the outcome of the roll
+     */
+    public static RoundState.Outcome outcomeOf(int transition) {
+        return OUTCOMES[transition & OUTCOME_MASK];
+    }
+
+    /**
+     * Decodes the point in effect after a packed transition.
+     * @param transition A value returned by {@link #transition(int, int)}
+     * @return the point after the roll, or 0 if the round was resolved on the come-out roll
+     */
+    public static int nextPointOf(int transition) {
+        return transition >>> OUTCOME_BITS;
+    }
+
+    /**
+     * Gets the outcome of a roll without changing any state.
+     * @param point The current point, or 0 on the come-out roll
+     * @param roll The total value of the dice roll
+     * @return the outcome of the roll
+     * @throws IllegalArgumentException if the roll is outside 2-12 or the point can never be established
+     */
+    public RoundState.Outcome outcome(int point, int roll) {
+        return outcomeOf(transition(point, roll));
+    }
+}
@@ -0,0 +1,64 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Count, mean and variance of a stream of values in constant memory, using Welford's
+ * online update. Two instances built on different threads can be combined with
+ * {@link #merge(RunningStatistics)} (Chan et al.'s parallel formula).
+ */
+public class RunningStatistics {
+    private long count;
+    private double mean;
+    private double sumOfSquares; // Sum of squared differences from the mean
+
+    /**
+     * Adds a value.
+     * @param value The value to add
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquares += delta * (value - mean);
+    }
+
+    /**
+     * Adds all values recorded by another instance to this one.
+     * @param other The statistics to merge in
+     * @return this instance
+     */
+    public RunningStatistics merge(RunningStatistics other) {
+        if (other.count == 0) {
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumOfSquares += other.sumOfSquares + delta * delta * count * other.count / total;
+        count = total;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Gets the mean of the values.
+     * @return the mean, or 0 if no values were added
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Gets the sample variance of the values.
+     * @return the variance, or 0 if fewer than two values were added
+     */
+    public double getVariance() {
+        return count < 2 ? 0 : sumOfSquares / (count - 1);
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+}
@@ -0,0 +1,45 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Plain loop implementation of {@link RollKernel}, used when the Vector API is unavailable
+ * and for the tail lanes that do not fill a whole vector.
+ */
+final class ScalarRollKernel implements RollKernel {
+    static final ScalarRollKernel INSTANCE = new ScalarRollKernel();
+
+    private static final int WIN = RoundState.Outcome.WIN.ordinal();
+
+    private ScalarRollKernel() {
+    }
+
+    @Override
+    public void roll(int count, long[] states, int[] totals) {
+        roll(0, count, states, totals);
+    }
+
+    void roll(int from, int to, long[] states, int[] totals) {
+        for (int lane = from; lane < to; lane++) {
+            long state = states[lane] + GOLDEN_GAMMA;
+            states[lane] = state;
+            totals[lane] = RollKernel.diceTotal(RollKernel.mix(state));
+        }
+    }
+
+    @Override
+    public void resolve(int count, int[] transitions, int[] points, int[] totals, int[] outcomes,
+                        int[] wagers, int[] balances) {
+        resolve(0, count, transitions, points, totals, outcomes, wagers, balances);
+    }
+
+    void resolve(int from, int to, int[] transitions, int[] points, int[] totals, int[] outcomes,
+                 int[] wagers, int[] balances) {
+        for (int lane = from; lane < to; lane++) {
+            int transition = transitions[points[lane] * RuleTable.TOTALS + totals[lane]];
+            int outcome = transition & RuleTable.OUTCOME_MASK;
+            points[lane] = transition >>> RuleTable.OUTCOME_BITS;
+            outcomes[lane] = outcome;
+            // A win returns the wager plus equal winnings
+            balances[lane] += outcome == WIN ? wagers[lane] << 1 : 0;
+        }
+    }
+}
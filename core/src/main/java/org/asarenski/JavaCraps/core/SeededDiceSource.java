@@ -0,0 +1,63 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Dice source created from a {@link DiceAlgorithm} and a seed that counts its draws,
+ * so its position in the random stream can be captured as (algorithm, seed, draws) and
+ * restored later with {@link DiceAlgorithm#restore(long, long)}. Rolls are identical to a
+ * {@link RandomGeneratorDiceSource} over the same generator.
+ */
+public final class SeededDiceSource implements DiceSource {
+    private final DiceAlgorithm algorithm;
+    private final long seed;
+    private final RandomGenerator random;
+    private long draws;
+
+    SeededDiceSource(DiceAlgorithm algorithm, long seed, RandomGenerator random) {
+        this.algorithm = algorithm;
+        this.seed = seed;
+        this.random = random;
+    }
+
+    @Override
+    public int rollPair() {
+        draws++;
+        return (int) Math.unsignedMultiplyHigh(random.nextLong(), PAIR_COUNT);
+    }
+
+    /**
+     * Advances the source past the given number of rolls. Constant time for
+     * {@link DiceAlgorithm#SPLITMIX64}, linear in the number of rolls otherwise.
+     * @param rolls The number of rolls to skip
+     */
+    public void skip(long rolls) {
+        if (rolls < 0) {
+            throw new IllegalArgumentException("Cannot skip a negative number of rolls");
+        }
+        if (random instanceof SplitMix64 splitMix) {
+            splitMix.skip(rolls);
+        } else {
+            for (long i = 0; i < rolls; i++) {
+                random.nextLong();
+            }
+        }
+        draws += rolls;
+    }
+
+    public DiceAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of rolls drawn since the source was seeded.
+     * @return the draw count
+     */
+    public long getDraws() {
+        return draws;
+    }
+}
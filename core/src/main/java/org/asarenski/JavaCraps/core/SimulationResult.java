@@ -0,0 +1,138 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Aggregated outcome of one or more simulated sessions.
+ * Results from independent runs can be combined with {@link #merge(SimulationResult)}.
+ */
+public class SimulationResult {
+    private long sessions;
+    private long rounds;
+    private long rolls;
+    private long wins;
+    private long losses;
+    private long totalWagered;
+    private long netWinnings;
+    private long ruinedSessions;
+    private long targetReachedSessions;
+
+    /**
+     * Records a resolved round.
+     * @param bet The amount wagered on the round
+     * @param won true if the round was won, false if it was lost
+     * @param rollCount The number of rolls the round took
+     */
+    void recordRound(int bet, boolean won, int rollCount) {
+        rounds++;
+        rolls += rollCount;
+        totalWagered += bet;
+        if (won) {
+            wins++;
+            netWinnings += bet;
+        } else {
+            losses++;
+            netWinnings -= bet;
+        }
+    }
+
+    /**
+     * Records the end of a session.
+     * @param ruined true if the player could no longer cover a bet
+     * @param targetReached true if the player reached the winning balance
+     */
+    void recordSession(boolean ruined, boolean targetReached) {
+        sessions++;
+        if (ruined) {
+            ruinedSessions++;
+        }
+        if (targetReached) {
+            targetReachedSessions++;
+        }
+    }
+
+    /**
+     * Adds the totals of another result to this one.
+     * @param other The result to merge into this one
+     * @return this result, for chaining
+     */
+    public SimulationResult merge(SimulationResult other) {
+        sessions += other.sessions;
+        rounds += other.rounds;
+        rolls += other.rolls;
+        wins += other.wins;
+        losses += other.losses;
+        totalWagered += other.totalWagered;
+        netWinnings += other.netWinnings;
+        ruinedSessions += other.ruinedSessions;
+        targetReachedSessions += other.targetReachedSessions;
+        return this;
+    }
+
+    /**
+     * Gets the house edge observed over all wagers.
+     * @return the player's average loss per unit wagered, or 0 if nothing was wagered
+     */
+    public double getHouseEdge() {
+        return totalWagered == 0 ? 0.0 : (double) -netWinnings / totalWagered;
+    }
+
+    /**
+     * Gets the fraction of sessions that ended with the player unable to cover a bet.
+     * @return the observed risk of ruin, or 0 if no sessions were played
+     */
+    public double getRiskOfRuin() {
+        return sessions == 0 ? 0.0 : (double) ruinedSessions / sessions;
+    }
+
+    /**
+     * Gets the fraction of rounds that were won.
+     * @return the observed round win rate, or 0 if no rounds were played
+     */
+    public double getWinRate() {
+        return rounds == 0 ? 0.0 : (double) wins / rounds;
+    }
+
+    /**
+     * Gets the average number of rolls needed to resolve a round.
+     * @return the average rolls per round, or 0 if no rounds were played
+     */
+    public double getAverageRollsPerRound() {
+        return rounds == 0 ? 0.0 : (double) rolls / rounds;
+    }
+
+    // Getters
+    public long getSessions() {
+        return sessions;
+    }
+
+    public long getRounds() {
+        return rounds;
+    }
+
+    public long getRolls() {
+        return rolls;
+    }
+
+    public long getWins() {
+        return wins;
+    }
+
+    public long getLosses() {
+        return losses;
+    }
+
+    public long getTotalWagered() {
+        return totalWagered;
+    }
+
+    public long getNetWinnings() {
+        return netWinnings;
+    }
+
+    public long getRuinedSessions() {
+        return ruinedSessions;
+    }
+
+    public long getTargetReachedSessions() {
+        return targetReachedSessions;
+    }
+}
@@ -0,0 +1,108 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * Headless driver that plays complete Craps sessions on a {@link RoundEngine}
+ * without any console I/O, for estimating house edge and risk of ruin in bulk.
+ * A session ends when the player reaches the winning balance, can no longer
+ * cover a minimum bet, or has played the configured maximum number of rounds.
+ */
+public class Simulator {
+    private final int initialBalance;
+    private final BettingStrategy strategy;
+    private final int maxRoundsPerSession;
+    private final Dice dice;
+    private RollListener rollListener = RollListener.NONE;
+
+    /**
+     * Creates a new Simulator with its own dice.
+     * @param initialBalance The balance each session starts with
+     * @param strategy The strategy deciding each round's bet
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     */
+    public Simulator(int initialBalance, BettingStrategy strategy, int maxRoundsPerSession) {
+        this(initialBalance, strategy, maxRoundsPerSession, new Dice());
+    }
+
+    /**
+     * Creates a new Simulator that rolls the supplied dice.
+     * @param initialBalance The balance each session starts with
+     * @param strategy The strategy deciding each round's bet
+     * @param maxRoundsPerSession The maximum number of rounds played per session
+     * @param dice The dice to roll
+     */
+    public Simulator(int initialBalance, BettingStrategy strategy, int maxRoundsPerSession, Dice dice) {
+        if (initialBalance <= 0) {
+            throw new IllegalArgumentException("Initial balance must be positive");
+        }
+        if (maxRoundsPerSession <= 0) {
+            throw new IllegalArgumentException("Max rounds per session must be positive");
+        }
+        this.initialBalance = initialBalance;
+        this.strategy = strategy;
+        this.maxRoundsPerSession = maxRoundsPerSession;
+        this.dice = dice;
+    }
+
+    /**
+     * Registers a listener notified of every roll of every session, in addition to any already
+     * registered. Its {@link RollListener#onSessionStart(int)} is called before each session.
+     * @param listener The listener to add
+     */
+    public void addRollListener(RollListener listener) {
+        rollListener = rollListener.andThen(listener);
+    }
+
+    /**
+     * Plays the given number of sessions.
+     * @param sessions The number of sessions to play
+     * @return the aggregated result of all sessions
+     */
+    public SimulationResult run(long sessions) {
+        SimulationResult result = new SimulationResult();
+        for (long i = 0; i < sessions; i++) {
+            playSession(result);
+        }
+        return result;
+    }
+
+    /**
+     * Plays a single session from the initial balance and records it.
+     * @param result The result to record rounds and the session outcome into
+     */
+    public void playSession(SimulationResult result) {
+        Player player = new Player("Simulator", initialBalance);
+        RoundEngine engine = new RoundEngine(player, dice);
+        engine.addRollListener(rollListener);
+        rollListener.onSessionStart(initialBalance);
+        strategy.reset();
+
+        for (int round = 0; round < maxRoundsPerSession && !player.hasWon(); round++) {
+            int bet = Math.min(strategy.nextBet(player.getBalance()), player.getBalance());
+            if (!player.canBet(bet)) {
+                break;
+            }
+            engine.resetRound();
+            engine.placeBet(bet);
+
+            int rolls = 0;
+            do {
+                engine.rollDice();
+                rolls++;
+            } while (!engine.isGameOver());
+
+            boolean won = engine.getRoundState().getGameStatus() == RoundState.Status.WIN;
+            strategy.onRoundResolved(won, bet);
+            result.recordRound(bet, won, rolls);
+        }
+        boolean ruined = player.getBalance() < Player.getMinimumBet();
+        result.recordSession(ruined, player.hasWon());
+    }
+
+    public int getInitialBalance() {
+        return initialBalance;
+    }
+
+    public int getMaxRoundsPerSession() {
+        return maxRoundsPerSession;
+    }
+}
@@ -0,0 +1,30 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 generator: a 64-bit counter advanced by a fixed odd gamma and passed through
+ * the same finalizer as the {@link BatchSimulator} lanes. Because the state after n draws is
+ * just {@code seed + n * gamma}, skipping ahead any number of draws takes constant time.
+ */
+final class SplitMix64 implements RandomGenerator {
+    private long state;
+
+    SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    @Override
+    public long nextLong() {
+        state += RollKernel.GOLDEN_GAMMA;
+        return RollKernel.mix(state);
+    }
+
+    /**
+     * Advances the generator as if {@link #nextLong()} had been called the given number of times.
+     * @param draws The number of draws to skip
+     */
+    void skip(long draws) {
+        state += draws * RollKernel.GOLDEN_GAMMA;
+    }
+}
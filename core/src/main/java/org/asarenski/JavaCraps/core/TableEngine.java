@@ -0,0 +1,121 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * A craps table where several players share every roll of one pair of dice.
+ * Each seat holds a player's {@link WagerLedger}. A roll is made once and then settled across the
+ * seats in one pass over an array, so a full table costs one roll plus a short loop of table
+ * lookups rather than one engine and dice stream per player.
+ */
+public class TableEngine {
+    private final Dice dice;
+    private final WagerLedger[] seats;
+    private final int[] payouts;
+    private int seated;
+    private int point;
+
+    /**
+     * Creates an empty table.
+     * @param dice The dice shared by every seat
+     * @param maxSeats The number of seats at the table
+     */
+    public TableEngine(Dice dice, int maxSeats) {
+        if (maxSeats <= 0) {
+            throw new IllegalArgumentException("Seat count must be positive");
+        }
+        this.dice = dice;
+        this.seats = new WagerLedger[maxSeats];
+        this.payouts = new int[maxSeats];
+    }
+
+    /**
+     * Seats a player at the first free seat. A player can join at any time, including mid-round.
+     * @param player The player to seat
+     * @return the seat number, or -1 if the table is full
+     */
+    public int sit(Player player) {
+        for (int seat = 0; seat < seats.length; seat++) {
+            if (seats[seat] == null) {
+                WagerLedger ledger = new WagerLedger(player);
+                ledger.joinAtPoint(point);
+                seats[seat] = ledger;
+                payouts[seat] = 0;
+                seated++;
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Frees a seat. Players must take down or settle all their wagers before leaving.
+     * @param seat The seat number
+     * @return true if the seat was freed, false if it is empty or still has wagers in action
+     */
+    public boolean leave(int seat) {
+        WagerLedger ledger = seats[seat];
+        if (ledger == null || ledger.getActiveMask() != 0) {
+            return false;
+        }
+        seats[seat] = null;
+        seated--;
+        return true;
+    }
+
+    /**
+     * Rolls the dice once and settles every seat's wagers on the result.
+     * @return the total value of the roll
+     */
+    public int roll() {
+        int total = dice.roll();
+        WagerLedger[] ledgers = seats;
+        int[] paid = payouts;
+        for (int seat = 0; seat < ledgers.length; seat++) {
+            WagerLedger ledger = ledgers[seat];
+            paid[seat] = ledger == null ? 0 : ledger.resolve(total);
+        }
+        point = WagerLedger.nextPoint(point, total);
+        return total;
+    }
+
+    /**
+     * Gets the ledger of a seat, through which its player places and takes down wagers.
+     * @param seat The seat number
+     * @return the seat's ledger, or null if the seat is empty
+     */
+    public WagerLedger getLedger(int seat) {
+        return seats[seat];
+    }
+
+    /**
+     * Gets the amount paid to a seat by the last roll.
+     * @param seat The seat number
+     * @return the amount paid, stakes included, or 0 if the seat is empty
+     */
+    public int getPayout(int seat) {
+        return payouts[seat];
+    }
+
+    /**
+     * Gets the table point.
+     * @return the point, or 0 on the come-out roll
+     */
+    public int getPoint() {
+        return point;
+    }
+
+    public int getDie1() {
+        return dice.getDie1();
+    }
+
+    public int getDie2() {
+        return dice.getDie2();
+    }
+
+    public int getSeatedCount() {
+        return seated;
+    }
+
+    public int getMaxSeats() {
+        return seats.length;
+    }
+}
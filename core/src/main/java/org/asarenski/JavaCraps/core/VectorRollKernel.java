@@ -0,0 +1,75 @@
+package org.asarenski.JavaCraps.core;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link RollKernel} implemented with the incubating Vector API.
+ * Dice are generated in 64-bit lanes and narrowed to ints; rule transitions are fetched
+ * with a gather, and wins are credited under a lane mask. Lanes left over after the last
+ * full vector are handled by the scalar kernel, which computes the same values.
+ * Only load this class after checking that {@code jdk.incubator.vector} is present.
+ */
+final class VectorRollKernel implements RollKernel {
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    // Int species with as many lanes as the long species, for narrowing dice totals
+    private static final VectorSpecies<Integer> NARROW_INTS =
+        VectorSpecies.of(int.class, VectorShape.forBitSize(LONGS.vectorBitSize() / 2));
+
+    private static final int WIN = RoundState.Outcome.WIN.ordinal();
+
+    // Scratch space for gather indexes
+    private final int[] indexes;
+
+    VectorRollKernel(int lanes) {
+        this.indexes = new int[lanes];
+    }
+
+    @Override
+    public void roll(int count, long[] states, int[] totals) {
+        int bound = LONGS.loopBound(count);
+        for (int lane = 0; lane < bound; lane += LONGS.length()) {
+            LongVector state = LongVector.fromArray(LONGS, states, lane).add(GOLDEN_GAMMA);
+            state.intoArray(states, lane);
+
+            LongVector z = state.lanewise(VectorOperators.LSHR, 30).lanewise(VectorOperators.XOR, state)
+                .mul(MIX_MULTIPLIER_1);
+            z = z.lanewise(VectorOperators.LSHR, 27).lanewise(VectorOperators.XOR, z).mul(MIX_MULTIPLIER_2);
+            z = z.lanewise(VectorOperators.LSHR, 31).lanewise(VectorOperators.XOR, z);
+
+            LongVector die1 = z.lanewise(VectorOperators.LSHR, 32).mul(6).lanewise(VectorOperators.LSHR, 32);
+            LongVector die2 = z.and(LOW_32_BITS).mul(6).lanewise(VectorOperators.LSHR, 32);
+            LongVector total = die1.add(die2).add(2);
+            ((IntVector) total.convertShape(VectorOperators.L2I, NARROW_INTS, 0)).intoArray(totals, lane);
+        }
+        ScalarRollKernel.INSTANCE.roll(bound, count, states, totals);
+    }
+
+    @Override
+    public void resolve(int count, int[] transitions, int[] points, int[] totals, int[] outcomes,
+                        int[] wagers, int[] balances) {
+        int bound = INTS.loopBound(count);
+        for (int lane = 0; lane < bound; lane += INTS.length()) {
+            IntVector point = IntVector.fromArray(INTS, points, lane);
+            IntVector total = IntVector.fromArray(INTS, totals, lane);
+            point.mul(RuleTable.TOTALS).add(total).intoArray(indexes, lane);
+
+            IntVector transition = IntVector.fromArray(INTS, transitions, 0, indexes, lane);
+            IntVector outcome = transition.and(RuleTable.OUTCOME_MASK);
+            transition.lanewise(VectorOperators.LSHR, RuleTable.OUTCOME_BITS).intoArray(points, lane);
+            outcome.intoArray(outcomes, lane);
+
+            VectorMask<Integer> won = outcome.eq(WIN);
+            IntVector wager = IntVector.fromArray(INTS, wagers, lane);
+            IntVector.fromArray(INTS, balances, lane)
+                .add(wager.lanewise(VectorOperators.LSHL, 1), won)
+                .intoArray(balances, lane);
+        }
+        ScalarRollKernel.INSTANCE.resolve(bound, count, transitions, points, totals, outcomes, wagers, balances);
+    }
+}
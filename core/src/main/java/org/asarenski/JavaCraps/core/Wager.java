@@ -0,0 +1,53 @@
+package org.asarenski.JavaCraps.core;
+
+/**
+ * The wagers a {@link WagerLedger} can hold, one slot each.
+ * Come bets are placed as {@link #COME} and move to the come bet on their number when it rolls.
+ */
+public enum Wager {
+    PASS(0),
+    DONT_PASS(0),
+    PASS_ODDS(0),
+    DONT_PASS_ODDS(0),
+    COME(0),
+    COME_4(4),
+    COME_5(5),
+    COME_6(6),
+    COME_8(8),
+    COME_9(9),
+    COME_10(10),
+    COME_ODDS_4(4),
+    COME_ODDS_5(5),
+    COME_ODDS_6(6),
+    COME_ODDS_8(8),
+    COME_ODDS_9(9),
+    COME_ODDS_10(10),
+    PLACE_4(4),
+    PLACE_5(5),
+    PLACE_6(6),
+    PLACE_8(8),
+    PLACE_9(9),
+    PLACE_10(10);
+
+    private final int number;
+
+    Wager(int number) {
+        this.number = number;
+    }
+
+    /**
+     * Gets the point number this wager is on.
+     * @return the number, or 0 for the line, line odds and pending come bets
+     */
+    public int getNumber() {
+        return number;
+    }
+
+    /**
+     * Gets the bit of this wager in {@link WagerLedger#getActiveMask()}.
+     * @return the bit mask
+     */
+    public int mask() {
+        return 1 << ordinal();
+    }
+}
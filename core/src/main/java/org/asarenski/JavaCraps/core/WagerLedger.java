@@ -0,0 +1,333 @@
+package org.asarenski.JavaCraps.core;
+
+import java.util.Arrays;
+
+/**
+ * Every wager a player has on the table, resolved together on each roll.
+ * Amounts are kept in one slot per {@link Wager}, with a bit mask of the slots in action. What
+ * each roll does to each slot is precomputed per (point, total) as masks of the wagers that win,
+ * lose or are returned, together with per-slot payout ratios. Resolving a roll is therefore a few
+ * table lookups and mask operations, with a loop over only the wagers it settles, rather than a
+ * branch per bet type.
+ * <p>
+ * Standard rules and payouts apply: line and come bets pay even money, with 12 barred for don't
+ * pass; odds pay true odds; place bets pay 9:5 on 4 and 10, 7:5 on 5 and 9 and 7:6 on 6 and 8.
+ * Come odds and place bets are off on the come-out roll: a seven then returns come odds and leaves
+ * place bets up. Stakes are taken from the player when a wager is placed, and winnings are paid
+ * with the stake when it resolves. Payouts are rounded down to whole dollars.
+ */
+public class WagerLedger {
+    private static final int TOTALS = RuleTable.TOTALS;
+    private static final int SLOTS = Wager.values().length;
+    private static final Wager[] WAGERS = Wager.values();
+    private static final int[] POINTS = {4, 5, 6, 8, 9, 10};
+
+    // Wagers settled by each roll, indexed by point * TOTALS + total
+    private static final int[] WIN_MASKS = new int[TOTALS * TOTALS];
+    private static final int[] LOSE_MASKS = new int[TOTALS * TOTALS];
+    private static final int[] PUSH_MASKS = new int[TOTALS * TOTALS];
+    private static final int[] NEXT_POINTS = new int[TOTALS * TOTALS];
+    // Winnings per dollar wagered as numerator / denominator, indexed by point * SLOTS + slot
+    private static final int[] PAYOUT_NUMERATORS = new int[TOTALS * SLOTS];
+    private static final int[] PAYOUT_DENOMINATORS = new int[TOTALS * SLOTS];
+    // Come bet slot a pending come bet moves to for each total, or -1
+    private static final int[] COME_TARGETS = new int[TOTALS];
+
+    static {
+        for (int point : new int[]{0, 4, 5, 6, 8, 9, 10}) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                PAYOUT_NUMERATORS[point * SLOTS + slot] = 1;
+                PAYOUT_DENOMINATORS[point * SLOTS + slot] = 1;
+            }
+            for (int total = 2; total < TOTALS; total++) {
+                buildRow(point, total);
+            }
+            if (point != 0) {
+                setPayout(point, Wager.PASS_ODDS, trueOdds(point, false));
+                setPayout(point, Wager.DONT_PASS_ODDS, trueOdds(point, true));
+            }
+            for (int i = 0; i < POINTS.length; i++) {
+                setPayout(point, WAGERS[Wager.COME_ODDS_4.ordinal() + i], trueOdds(POINTS[i], false));
+                setPayout(point, WAGERS[Wager.PLACE_4.ordinal() + i], placeOdds(POINTS[i]));
+            }
+        }
+        Arrays.fill(COME_TARGETS, -1);
+        for (int i = 0; i < POINTS.length; i++) {
+            COME_TARGETS[POINTS[i]] = Wager.COME_4.ordinal() + i;
+        }
+    }
+
+    private static void buildRow(int point, int total) {
+        int row = point * TOTALS + total;
+        boolean comeOut = point == 0;
+        int win = 0;
+        int lose = 0;
+        int push = 0;
+
+        // Line bets and their odds
+        if (comeOut) {
+            if (total == 7 || total == 11) {
+                win |= Wager.PASS.mask();
+                lose |= Wager.DONT_PASS.mask();
+            } else if (total == 2 || total == 3) {
+                lose |= Wager.PASS.mask();
+                win |= Wager.DONT_PASS.mask();
+            } else if (total == 12) {
+                // Barred: don't pass neither wins nor loses and stays in action
+                lose |= Wager.PASS.mask();
+            }
+        } else if (total == point) {
+            win |= Wager.PASS.mask() | Wager.PASS_ODDS.mask();
+            lose |= Wager.DONT_PASS.mask() | Wager.DONT_PASS_ODDS.mask();
+        } else if (total == 7) {
+            lose |= Wager.PASS.mask() | Wager.PASS_ODDS.mask();
+            win |= Wager.DONT_PASS.mask() | Wager.DONT_PASS_ODDS.mask();
+        }
+
+        // Pending come bets resolve like a come-out roll
+        if (total == 7 || total == 11) {
+            win |= Wager.COME.mask();
+        } else if (total == 2 || total == 3 || total == 12) {
+            lose |= Wager.COME.mask();
+        }
+
+        // Come bets on a number, their odds and place bets
+        for (int i = 0; i < POINTS.length; i++) {
+            int come = Wager.COME_4.ordinal() + i;
+            int comeOdds = Wager.COME_ODDS_4.ordinal() + i;
+            int place = Wager.PLACE_4.ordinal() + i;
+            if (total == POINTS[i]) {
+                win |= 1 << come;
+                if (comeOut) {
+                    push |= 1 << comeOdds;
+                } else {
+                    win |= 1 << comeOdds | 1 << place;
+                }
+            } else if (total == 7) {
+                lose |= 1 << come;
+                if (comeOut) {
+                    push |= 1 << comeOdds;
+                } else {
+                    lose |= 1 << comeOdds | 1 << place;
+                }
+            }
+        }
+        WIN_MASKS[row] = win;
+        LOSE_MASKS[row] = lose;
+        PUSH_MASKS[row] = push;
+        int transition = RuleTable.STANDARD.transition(point, total);
+        NEXT_POINTS[row] = RuleTable.outcomeOf(transition) == RoundState.Outcome.CONTINUE
+            ? RuleTable.nextPointOf(transition) : 0;
+    }
+
+    private static void setPayout(int point, Wager wager, int[] ratio) {
+        PAYOUT_NUMERATORS[point * SLOTS + wager.ordinal()] = ratio[0];
+        PAYOUT_DENOMINATORS[point * SLOTS + wager.ordinal()] = ratio[1];
+    }
+
+    private static int[] trueOdds(int number, boolean lay) {
+        int[] odds = switch (number) {
+            case 4, 10 -> new int[]{2, 1};
+            case 5, 9 -> new int[]{3, 2};
+            default -> new int[]{6, 5};
+        };
+        return lay ? new int[]{odds[1], odds[0]} : odds;
+    }
+
+    private static int[] placeOdds(int number) {
+        return switch (number) {
+            case 4, 10 -> new int[]{9, 5};
+            case 5, 9 -> new int[]{7, 5};
+            default -> new int[]{7, 6};
+        };
+    }
+
+    /**
+     * Gets the table point after a roll.
+     * @param point The point before the roll, or 0 on the come-out roll
+     * @param total The total value of the dice roll
+     * @return the point after the roll, or 0 if the next roll is a come-out roll
+     */
+    static int nextPoint(int point, int total) {
+        return NEXT_POINTS[point * TOTALS + total];
+    }
+
+    private final Player player;
+    private final int[] amounts = new int[SLOTS];
+    private int active;
+    private int point;
+    private int lastReturned;
+
+    /**
+     * Creates an empty ledger for a player.
+     * @param player The player whose balance stakes are taken from and paid into
+     */
+    public WagerLedger(Player player) {
+        this.player = player;
+    }
+
+    /**
+     * Places a wager, or adds to it if it is already in action, taking the stake from the player.
+     * Line bets can only be placed on the come-out roll; come bets once a point is established;
+     * odds only behind a line or come bet in action. Come bets on a number cannot be placed directly.
+     * @param wager The wager to place
+     * @param amount The stake
+     * @return true if the wager was placed, false if it is not allowed now or the player cannot cover it
+     */
+    public boolean place(Wager wager, int amount) {
+        if (!canPlace(wager) || !player.canBet(amount)) {
+            return false;
+        }
+        player.withdraw(amount);
+        amounts[wager.ordinal()] += amount;
+        active |= wager.mask();
+        return true;
+    }
+
+    private boolean canPlace(Wager wager) {
+        return switch (wager) {
+            case PASS, DONT_PASS -> point == 0;
+            case COME -> point != 0;
+            case PASS_ODDS -> point != 0 && isActive(Wager.PASS);
+            case DONT_PASS_ODDS -> point != 0 && isActive(Wager.DONT_PASS);
+            case COME_ODDS_4, COME_ODDS_5, COME_ODDS_6, COME_ODDS_8, COME_ODDS_9, COME_ODDS_10 ->
+                (active & 1 << wager.ordinal() - Wager.COME_ODDS_4.ordinal() + Wager.COME_4.ordinal()) != 0;
+            case PLACE_4, PLACE_5, PLACE_6, PLACE_8, PLACE_9, PLACE_10 -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Takes down a place bet or odds, returning the stake to the player. Line and come bets
+     * cannot be taken down.
+     * @param wager The wager to take down
+     * @return the stake returned, or 0 if the wager is not in action or cannot be taken down
+     */
+    public int remove(Wager wager) {
+        boolean removable = wager.ordinal() >= Wager.COME_ODDS_4.ordinal()
+            || wager == Wager.PASS_ODDS || wager == Wager.DONT_PASS_ODDS;
+        if (!removable || !isActive(wager)) {
+            return 0;
+        }
+        int amount = amounts[wager.ordinal()];
+        amounts[wager.ordinal()] = 0;
+        active &= ~wager.mask();
+        player.deposit(amount);
+        return amount;
+    }
+
+    /**
+     * Settles every wager affected by a roll, pays the player and advances the point.
+     * @param total The total value of the dice roll
+     * @return the amount paid to the player, stakes included
+     * @throws IllegalArgumentException if the total is outside 2-12
+     */
+    public int resolve(int total) {
+        if (total < 2 || total >= TOTALS) {
+            throw new IllegalArgumentException("Invalid dice total: " + total);
+        }
+        int row = point * TOTALS + total;
+        int winners = WIN_MASKS[row] & active;
+        int losers = LOSE_MASKS[row] & active;
+        int pushes = PUSH_MASKS[row] & active;
+        long returned = 0;
+
+        int payoutBase = point * SLOTS;
+        for (int mask = winners; mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+            long amount = amounts[slot];
+            returned += amount + amount * PAYOUT_NUMERATORS[payoutBase + slot] / PAYOUT_DENOMINATORS[payoutBase + slot];
+            amounts[slot] = 0;
+        }
+        for (int mask = pushes; mask != 0; mask &= mask - 1) {
+            int slot = Integer.numberOfTrailingZeros(mask);
+            returned += amounts[slot];
+            amounts[slot] = 0;
+        }
+        for (int mask = losers; mask != 0; mask &= mask - 1) {
+            amounts[Integer.numberOfTrailingZeros(mask)] = 0;
+        }
+        active &= ~(winners | losers | pushes);
+
+        int target = COME_TARGETS[total];
+        if (target >= 0 && (active & Wager.COME.mask()) != 0) {
+            amounts[target] += amounts[Wager.COME.ordinal()];
+            amounts[Wager.COME.ordinal()] = 0;
+            active = active & ~Wager.COME.mask() | 1 << target;
+        }
+        point = NEXT_POINTS[row];
+
+        lastReturned = (int) returned;
+        player.deposit(lastReturned);
+        return lastReturned;
+    }
+
+    /**
+     * Gets the stake on a wager.
+     * @param wager The wager
+     * @return the stake, or 0 if the wager is not in action
+     */
+    public int getAmount(Wager wager) {
+        return amounts[wager.ordinal()];
+    }
+
+    /**
+     * Checks whether a wager is in action.
+     * @param wager The wager
+     * @return true if the wager has a stake on it
+     */
+    public boolean isActive(Wager wager) {
+        return (active & wager.mask()) != 0;
+    }
+
+    /**
+     * Gets the wagers in action as a bit mask of {@link Wager#mask()} values.
+     * @return the active wager mask
+     */
+    public int getActiveMask() {
+        return active;
+    }
+
+    /**
+     * Gets the sum of all stakes in action.
+     * @return the total at risk
+     */
+    public int getTotalAtRisk() {
+        int total = 0;
+        for (int mask = active; mask != 0; mask &= mask - 1) {
+            total += amounts[Integer.numberOfTrailingZeros(mask)];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the table point.
+     * @return the point, or 0 on the come-out roll
+     */
+    public int getPoint() {
+        return point;
+    }
+
+    /**
+     * Sets the table point of an empty ledger, for a player joining a table mid-round.
+     * @param point The table point, or 0 on the come-out roll
+     */
+    void joinAtPoint(int point) {
+        if (active != 0) {
+            throw new IllegalStateException("Ledger has wagers in action");
+        }
+        this.point = point;
+    }
+
+    /**
+     * Gets the amount paid to the player by the last roll.
+     * @return the amount paid, stakes included
+     */
+    public int getLastReturned() {
+        return lastReturned;
+    }
+
+    public Player getPlayer() {
+        return player;
+    }
+}
@@ -0,0 +1,78 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+    private static final int TEST_BET = 10;
+
+    @Test
+    void testSingleLaneMatchesObjectSimulator() {
+        SimulationResult expected = new Simulator(100, new FlatBetStrategy(TEST_BET), 200,
+            new Dice(DiceAlgorithm.SPLITTABLE.create(2024L))).run(2000);
+        SimulationResult actual = new BatchSimulator(100, TEST_BET, 200, 1,
+            DiceAlgorithm.SPLITTABLE.create(2024L)).run(2000);
+
+        assertResultsEqual(expected, actual);
+    }
+
+    @Test
+    void testUnevenBetMatchesObjectSimulator() {
+        // A bet that does not divide the balance exercises the all-in cap and ruin checks
+        SimulationResult expected = new Simulator(47, new FlatBetStrategy(15), 30,
+            new Dice(DiceAlgorithm.DEFAULT.create(5L))).run(3000);
+        SimulationResult actual = new BatchSimulator(47, 15, 30, 1,
+            DiceAlgorithm.DEFAULT.create(5L)).run(3000);
+
+        assertResultsEqual(expected, actual);
+    }
+
+    @Test
+    void testManyLanesPlayEverySession() {
+        SimulationResult result = new BatchSimulator(100, TEST_BET, 100, 1024,
+            DiceAlgorithm.DEFAULT.create(9L)).run(5000);
+
+        assertEquals(5000, result.getSessions());
+        assertEquals(result.getRounds(), result.getWins() + result.getLosses());
+        assertEquals(result.getRounds() * TEST_BET, result.getTotalWagered());
+        assertTrue(result.getRounds() <= 5000L * 100);
+    }
+
+    @Test
+    void testManyLanesAgreeWithExactOdds() {
+        OddsCalculator odds = new OddsCalculator();
+        SimulationResult result = new BatchSimulator(100, TEST_BET, 100, 256,
+            DiceAlgorithm.DEFAULT.create(3L)).run(40_000);
+
+        assertEquals(odds.getRiskOfRuin(100, TEST_BET, 100), result.getRiskOfRuin(), 0.015);
+        assertEquals(odds.getExpectedRollsPerRound(), result.getAverageRollsPerRound(), 0.02);
+    }
+
+    @Test
+    void testSessionsThatCannotStart() {
+        SimulationResult result = new BatchSimulator(Player.getWinningBalance(), TEST_BET, 10, 8,
+            DiceAlgorithm.DEFAULT.create(1L)).run(20);
+
+        assertEquals(20, result.getSessions());
+        assertEquals(20, result.getTargetReachedSessions());
+        assertEquals(0, result.getRounds());
+    }
+
+    @Test
+    void testCraplessRules() {
+        SimulationResult result = new BatchSimulator(1000 - 1, Player.getMinimumBet(), 1000, 64,
+            DiceAlgorithm.DEFAULT.create(8L), RuleTable.CRAPLESS).run(500);
+        assertEquals(new OddsCalculator(RuleTable.CRAPLESS).getHouseEdge(), result.getHouseEdge(), 0.02);
+    }
+
+    private static void assertResultsEqual(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getSessions(), actual.getSessions());
+        assertEquals(expected.getRounds(), actual.getRounds());
+        assertEquals(expected.getRolls(), actual.getRolls());
+        assertEquals(expected.getWins(), actual.getWins());
+        assertEquals(expected.getTotalWagered(), actual.getTotalWagered());
+        assertEquals(expected.getNetWinnings(), actual.getNetWinnings());
+        assertEquals(expected.getRuinedSessions(), actual.getRuinedSessions());
+        assertEquals(expected.getTargetReachedSessions(), actual.getTargetReachedSessions());
+    }
+}
@@ -0,0 +1,96 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BettingStrategiesTest {
+
+    @Test
+    void testMartingaleDoublesAfterLossesUpToLimit() {
+        MartingaleStrategy strategy = new MartingaleStrategy(10, 40);
+        int[] expected = {10, 20, 40, 10, 20};
+        for (int bet : expected) {
+            assertEquals(bet, strategy.nextBet(1000));
+            strategy.onRoundResolved(false, bet);
+        }
+        strategy.onRoundResolved(true, 40);
+        assertEquals(10, strategy.nextBet(1000), "A win should return to the base bet");
+    }
+
+    @Test
+    void testParoliDoublesAfterWinsAndBanksAfterRun() {
+        ParoliStrategy strategy = new ParoliStrategy(5, 3);
+        int[] expected = {5, 10, 20, 5};
+        for (int bet : expected) {
+            assertEquals(bet, strategy.nextBet(1000));
+            strategy.onRoundResolved(true, bet);
+        }
+        strategy.onRoundResolved(false, 10);
+        assertEquals(5, strategy.nextBet(1000), "A loss should return to the base bet");
+
+        strategy.onRoundResolved(true, 5);
+        strategy.reset();
+        assertEquals(5, strategy.nextBet(1000));
+        assertThrows(IllegalArgumentException.class, () -> new ParoliStrategy(1 << 30, 2));
+    }
+
+    @Test
+    void testKellyFractionBetsShareOfBalance() {
+        KellyFractionStrategy strategy = new KellyFractionStrategy(0.1);
+        assertEquals(50, strategy.nextBet(500));
+        assertEquals(Player.getMinimumBet(), strategy.nextBet(20), "Never below the minimum bet");
+        assertThrows(IllegalArgumentException.class, () -> new KellyFractionStrategy(0));
+        assertThrows(IllegalArgumentException.class, () -> new KellyFractionStrategy(Double.NaN));
+    }
+
+    @Test
+    void testSpecsCreateConfiguredStrategies() {
+        assertEquals(Player.getMinimumBet(),
+            assertInstanceOf(FlatBetStrategy.class, BettingStrategies.create("flat")).getAmount());
+        MartingaleStrategy martingale = assertInstanceOf(MartingaleStrategy.class,
+            BettingStrategies.create(" Martingale:10:640 "));
+        assertEquals(10, martingale.getBaseBet());
+        assertEquals(640, martingale.getLimit());
+        assertEquals(4, assertInstanceOf(ParoliStrategy.class, BettingStrategies.create("paroli:5:4")).getMaxWins());
+        assertEquals(0.05, assertInstanceOf(KellyFractionStrategy.class, BettingStrategies.create("kelly")).getFraction());
+    }
+
+    @Test
+    void testInvalidSpecsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategies.create("labouchere"));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategies.create("flat:1"));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategies.create("martingale:20:10"));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategies.create("paroli:5:x"));
+        assertThrows(IllegalArgumentException.class, () -> BettingStrategies.create("kelly:half"));
+    }
+
+    @Test
+    void testFactoryCreatesIndependentInstances() {
+        Supplier<BettingStrategy> factory = BettingStrategies.factory("martingale:5");
+        BettingStrategy first = factory.get();
+        first.onRoundResolved(false, 5);
+        assertEquals(10, first.nextBet(100));
+        assertEquals(5, factory.get().nextBet(100));
+    }
+
+    @Test
+    void testCustomStrategiesCanBeRegistered() {
+        BettingStrategies.register("allin", args -> balance -> balance);
+        assertTrue(BettingStrategies.names().contains("allin"));
+        assertEquals(75, BettingStrategies.create("ALLIN").nextBet(75));
+    }
+
+    @Test
+    void testStrategiesRunInSimulator() {
+        for (String spec : new String[]{"flat:10", "martingale:5:160", "paroli:5", "kelly:0.2"}) {
+            Simulator simulator = new Simulator(100, BettingStrategies.create(spec), 200,
+                new Dice(DiceAlgorithm.SPLITMIX64.create(42)));
+            SimulationResult result = simulator.run(200);
+            assertEquals(result.getRounds(), result.getWins() + result.getLosses(), spec);
+            assertTrue(result.getTotalWagered() >= result.getRounds() * Player.getMinimumBet(), spec);
+        }
+    }
+}
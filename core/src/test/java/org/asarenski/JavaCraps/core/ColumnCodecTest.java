@@ -0,0 +1,91 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnCodecTest {
+    private final ColumnCodec codec = new ColumnCodec();
+
+    private int[] roundTrip(int[] values) {
+        ByteBuffer buffer = ByteBuffer.allocate((int) ColumnCodec.maxEncodedSize(values.length));
+        codec.encode(values, values.length, buffer);
+        int encodedSize = buffer.position();
+        int[] decoded = new int[values.length];
+        codec.decode(buffer.flip(), values.length, decoded);
+        assertEquals(encodedSize, buffer.position(), "Decoding should consume exactly the encoded chunk");
+        assertArrayEquals(values, decoded);
+        return new int[] {encodedSize, buffer.get(0), buffer.get(1)};
+    }
+
+    @Test
+    void testRandomValuesRoundTrip() {
+        Random random = new Random(42);
+        for (int width = 1; width <= 32; width++) {
+            int[] values = new int[1000];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = width == 32 ? random.nextInt() : random.nextInt(1 << (width - 1));
+            }
+            roundTrip(values);
+        }
+    }
+
+    @Test
+    void testExtremeValuesRoundTrip() {
+        roundTrip(new int[] {Integer.MIN_VALUE, Integer.MAX_VALUE, 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE});
+        roundTrip(new int[] {Integer.MAX_VALUE});
+        roundTrip(new int[0]);
+    }
+
+    @Test
+    void testConstantColumnPacksIntoNoBits() {
+        int[] values = new int[10_000];
+        Arrays.fill(values, 25);
+        int[] chunk = roundTrip(values);
+        assertEquals(0, chunk[2], "A constant column needs no bits per value");
+        assertEquals(2 + Long.BYTES, chunk[0]);
+    }
+
+    @Test
+    void testSlowlyChangingColumnUsesDeltas() {
+        int[] values = new int[10_000];
+        int balance = 1_000_000;
+        Random random = new Random(7);
+        for (int i = 0; i < values.length; i++) {
+            balance += random.nextBoolean() ? 10 : -10;
+            values[i] = balance;
+        }
+        int[] chunk = roundTrip(values);
+        assertEquals(ColumnCodec.DELTA, chunk[1]);
+        assertEquals(5, chunk[2], "Deltas of -10 and +10 span 20, which fits in 5 bits");
+    }
+
+    @Test
+    void testSmallRangeUsesFrameOfReference() {
+        int[] values = new int[36];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 7) % 36;
+        }
+        int[] chunk = roundTrip(values);
+        assertEquals(ColumnCodec.FRAME, chunk[1]);
+        assertEquals(6, chunk[2]);
+    }
+
+    @Test
+    void testMaxEncodedSizeDoesNotOverflow() {
+        assertEquals(2 + Long.BYTES + Integer.BYTES + 4L * 100_000_000, ColumnCodec.maxEncodedSize(100_000_000));
+        assertTrue(ColumnCodec.maxEncodedSize(Integer.MAX_VALUE) > Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testCorruptChunkIsRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(64).put((byte) 9).put((byte) 4).putLong(0).flip();
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(buffer, 4, new int[4]));
+        ByteBuffer wide = ByteBuffer.allocate(64).put(ColumnCodec.FRAME).put((byte) 40).putLong(0).flip();
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(wide, 4, new int[4]));
+    }
+}
@@ -0,0 +1,200 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarRollWriterTest {
+    private record Roll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+    }
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Records rolls and session starts in the order a listener sees them.
+     */
+    private static final class Recorder implements RollListener {
+        final List<Object> events = new ArrayList<>();
+        final List<Roll> rolls = new ArrayList<>();
+
+        @Override
+        public void onSessionStart(int balance) {
+            events.add("start " + balance);
+        }
+
+        @Override
+        public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+            Roll roll = new Roll(die1, die2, point, outcome, bet, balance);
+            events.add(roll);
+            rolls.add(roll);
+        }
+    }
+
+    private static Simulator simulator(long seed) {
+        return new Simulator(500, new FlatBetStrategy(10), 200, new Dice(DiceAlgorithm.SPLITTABLE.create(seed)));
+    }
+
+    @Test
+    void testSimulationRoundTrip() throws IOException {
+        Path path = dir.resolve("rolls.jccl");
+        Simulator simulator = simulator(11);
+        Recorder expected = new Recorder();
+        simulator.addRollListener(expected);
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path, 1000)) {
+            simulator.addRollListener(writer);
+            simulator.run(50);
+            assertEquals(expected.rolls.size(), writer.getRowCount());
+        }
+
+        Recorder actual = new Recorder();
+        try (ColumnarRollReader reader = new ColumnarRollReader(path)) {
+            assertEquals(expected.rolls.size(), reader.getRowCount());
+            assertEquals((expected.rolls.size() + 999) / 1000, reader.getRowGroupCount());
+            assertEquals(expected.rolls.size(), reader.readAll(actual));
+        }
+        assertEquals(expected.events, actual.events, "Replaying should reproduce every roll and session start");
+    }
+
+    @Test
+    void testSessionStartBalancesAreStoredExactly() throws IOException {
+        Path path = dir.resolve("starts.jccl");
+        Recorder expected = new Recorder();
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path, 2)) {
+            for (RollListener listener : List.of(expected, writer)) {
+                // A 3:2 payout decided on the second roll, then a session starting at zero
+                listener.onSessionStart(137);
+                listener.onRoll(3, 3, 0, RoundState.Outcome.CONTINUE, 20, 117);
+                listener.onRoll(4, 2, 6, RoundState.Outcome.WIN, 20, 167);
+                listener.onSessionStart(0);
+                listener.onRoll(6, 1, 0, RoundState.Outcome.WIN, 0, 0);
+            }
+        }
+
+        Recorder actual = new Recorder();
+        try (ColumnarRollReader reader = new ColumnarRollReader(path)) {
+            reader.readAll(actual);
+        }
+        assertEquals(expected.events, actual.events);
+    }
+
+    @Test
+    void testCorruptOutcomeIsRejected() throws IOException {
+        Path path = dir.resolve("outcome.jccl");
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path)) {
+            writer.onRoll(3, 4, 0, RoundState.Outcome.WIN, 10, 110);
+        }
+        // The single-valued outcome chunk packs into zero bits, so its value is the chunk's base
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long footerStart = channel.size() - ColumnarRollWriter.TRAILER_SIZE
+                - (2 * Integer.BYTES + ColumnarRollWriter.COLUMNS * (Long.BYTES + 3 * Integer.BYTES));
+            ByteBuffer offset = ByteBuffer.allocate(Long.BYTES);
+            channel.read(offset, footerStart + 2 * Integer.BYTES
+                + RollColumn.OUTCOME.ordinal() * (Long.BYTES + 3 * Integer.BYTES));
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, 7), offset.getLong(0) + 2);
+        }
+        try (ColumnarRollReader reader = new ColumnarRollReader(path)) {
+            assertThrows(IOException.class, () -> reader.readAll((die1, die2, point, outcome, bet, balance) -> { }));
+        }
+    }
+
+    @Test
+    void testFileIsMuchSmallerThanJournal() throws IOException {
+        Path path = dir.resolve("large.jccl");
+        Simulator simulator = simulator(3);
+        long rolls;
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path)) {
+            simulator.addRollListener(writer);
+            simulator.run(2_000);
+            rolls = writer.getRowCount();
+        }
+        double bytesPerRoll = (double) Files.size(path) / rolls;
+        assertTrue(bytesPerRoll < RollJournal.RECORD_SIZE / 2.0,
+            "Expected well under " + RollJournal.RECORD_SIZE + " bytes per roll but got " + bytesPerRoll);
+    }
+
+    @Test
+    void testStatisticsAllowSkippingRowGroups() throws IOException {
+        Path path = dir.resolve("stats.jccl");
+        try (ColumnarRollWriter writer = new ColumnarRollWriter(path, 100)) {
+            for (int i = 0; i < 350; i++) {
+                writer.onRoll(i % 6 + 1, 1, 0, RoundState.Outcome.CONTINUE, 10, 1_000 + i);
+            }
+        }
+
+        try (ColumnarRollReader reader = new ColumnarRollReader(path)) {
+            assertEquals(4, reader.getRowGroupCount());
+            assertEquals(50, reader.getRowCount(3));
+            assertEquals(new ColumnStatistics(1_100, 1_199), reader.getStatistics(1, RollColumn.BALANCE));
+            assertEquals(new ColumnStatistics(10, 10), reader.getStatistics(2, RollColumn.BET));
+
+            List<Integer> matching = new ArrayList<>();
+            int[] balances = new int[100];
+            for (int group = 0; group < reader.getRowGroupCount(); group++) {
+                if (!reader.getStatistics(group, RollColumn.BALANCE).overlaps(1_250, 1_260)) {
+                    continue;
+                }
+                matching.add(group);
+                int count = reader.readColumn(group, RollColumn.BALANCE, balances);
+                assertEquals(1_200, balances[0]);
+                assertEquals(1_299, balances[count - 1]);
+            }
+            assertEquals(List.of(2), matching, "Only the row group holding the range should be read");
+        }
+    }
+
+    @Test
+    void testEmptyFile() throws IOException {
+        Path path = dir.resolve("empty.jccl");
+        new ColumnarRollWriter(path).close();
+        try (ColumnarRollReader reader = new ColumnarRollReader(path)) {
+            assertEquals(0, reader.getRowCount());
+            assertEquals(0, reader.getRowGroupCount());
+            assertEquals(0, reader.readAll((die1, die2, point, outcome, bet, balance) -> fail()));
+        }
+    }
+
+    @Test
+    void testInvalidFilesAreRejected() throws IOException {
+        Path tooShort = dir.resolve("short.jccl");
+        Files.write(tooShort, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> new ColumnarRollReader(tooShort));
+
+        Path unclosed = dir.resolve("unclosed.jccl");
+        ColumnarRollWriter writer = new ColumnarRollWriter(unclosed, 10);
+        for (int i = 0; i < 25; i++) {
+            writer.onRoll(1, 1, 0, RoundState.Outcome.LOSE, 10, 100);
+        }
+        assertThrows(IOException.class, () -> new ColumnarRollReader(unclosed), "A file without a footer is invalid");
+        writer.close();
+
+        // Point a chunk past the end of the file
+        try (FileChannel channel = FileChannel.open(unclosed, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long footerStart = channel.size() - ColumnarRollWriter.TRAILER_SIZE
+                - (Integer.BYTES + 3 * (Integer.BYTES + ColumnarRollWriter.COLUMNS * (Long.BYTES + 3 * Integer.BYTES)));
+            channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, channel.size()), footerStart + 2 * Integer.BYTES);
+        }
+        try (ColumnarRollReader reader = new ColumnarRollReader(unclosed)) {
+            assertThrows(IOException.class, () -> reader.readColumn(0, RollColumn.DICE, new int[10]));
+        }
+    }
+
+    @Test
+    void testInvalidRowGroupSize() {
+        assertThrows(IllegalArgumentException.class, () -> new ColumnarRollWriter(dir.resolve("bad.jccl"), 0));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ColumnarRollWriter(dir.resolve("bad.jccl"), ColumnarRollWriter.MAX_ROW_GROUP_SIZE + 1));
+        assertThrows(IllegalArgumentException.class,
+            () -> new ColumnarRollWriter(dir.resolve("bad.jccl"), 100_000_000), "Would overflow the chunk size");
+    }
+}
@@ -0,0 +1,44 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLogHistogramTest {
+
+    @Test
+    void testSnapshotMatchesSequentialHistogram() throws InterruptedException {
+        ConcurrentLogHistogram concurrent = new ConcurrentLogHistogram();
+        LogHistogram sequential = new LogHistogram();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int i = offset; i < 100_000; i += threads.length) {
+                    concurrent.record(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (int i = 0; i < 100_000; i++) {
+            sequential.record(i);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LogHistogram snapshot = concurrent.snapshot();
+        assertEquals(sequential.getCount(), snapshot.getCount());
+        assertEquals(sequential.getMean(), snapshot.getMean(), 1e-9);
+        assertEquals(sequential.getMin(), snapshot.getMin());
+        assertEquals(sequential.getMax(), snapshot.getMax());
+        for (double percentile : new double[]{1, 50, 90, 99, 99.9}) {
+            assertEquals(sequential.getValueAtPercentile(percentile), snapshot.getValueAtPercentile(percentile));
+        }
+    }
+
+    @Test
+    void testNegativeValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLogHistogram().record(-1));
+    }
+}
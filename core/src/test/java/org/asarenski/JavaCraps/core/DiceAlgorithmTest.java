@@ -0,0 +1,48 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiceAlgorithmTest {
+
+    @ParameterizedTest
+    @EnumSource(DiceAlgorithm.class)
+    void testSeededSourceIsReproducible(DiceAlgorithm algorithm) {
+        DiceSource first = algorithm.create(1234L);
+        DiceSource second = algorithm.create(1234L);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(first.rollPair(), second.rollPair(),
+                algorithm + " should roll the same pairs for the same seed");
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DiceAlgorithm.class)
+    void testPairsCoverAllOutcomesUniformly(DiceAlgorithm algorithm) {
+        DiceSource source = algorithm.create(99L);
+        int rolls = 360_000;
+        int[] counts = new int[DiceSource.PAIR_COUNT];
+        for (int i = 0; i < rolls; i++) {
+            int pair = source.rollPair();
+            assertTrue(pair >= 0 && pair < DiceSource.PAIR_COUNT, "Pair index out of range: " + pair);
+            counts[pair]++;
+        }
+        for (int pair = 0; pair < DiceSource.PAIR_COUNT; pair++) {
+            // Expected 10,000 per pair with a standard deviation of about 99
+            assertEquals(10_000, counts[pair], 600, algorithm + " pair " + pair + " is off");
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(DiceAlgorithm.class)
+    void testDiceFacesFromSource(DiceAlgorithm algorithm) {
+        Dice dice = new Dice(algorithm.create(5L));
+        for (int i = 0; i < 1000; i++) {
+            int roll = dice.roll();
+            assertTrue(dice.getDie1() >= 1 && dice.getDie1() <= 6);
+            assertTrue(dice.getDie2() >= 1 && dice.getDie2() <= 6);
+            assertEquals(dice.getDie1() + dice.getDie2(), roll);
+        }
+    }
+}
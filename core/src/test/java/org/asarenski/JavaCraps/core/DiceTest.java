@@ -2,6 +2,9 @@ package org.asarenski.JavaCraps.core;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.RepeatedTest;
+
+import java.util.SplittableRandom;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DiceTest {
@@ -59,4 +62,14 @@ class DiceTest {
         assertFalse(roll < 2 || roll > 12,
             "Roll should never be less than 2 or greater than 12, but was: " + roll);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testSeededDiceAreReproducible() {
+        Dice first = new Dice(new SplittableRandom(7));
+        Dice second = new Dice(new SplittableRandom(7));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(first.roll(), second.roll(), "Dice with the same seed should roll the same values");
+            assertEquals(first.getDie1(), second.getDie1());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.asarenski.JavaCraps.core;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEventsTest {
+    private static final int BET = 10;
+    private static final int ROUNDS = 50;
+
+    @TempDir
+    Path dir;
+
+    private static int[] playRounds() {
+        Player player = new Player("Recorded", 1_000_000);
+        RoundEngine engine = new RoundEngine(player, new Dice(DiceAlgorithm.SPLITMIX64.create(8L)));
+        int rolls = 0;
+        int points = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            engine.resetRound();
+            assertTrue(engine.placeBet(BET));
+            do {
+                engine.rollDice();
+                rolls++;
+                if (engine.getRoundState().getPoint() != 0 && engine.getLastOutcome() == RoundState.Outcome.CONTINUE
+                        && engine.getRoundState().getPoint() == engine.getLastRoll()) {
+                    points++;
+                }
+            } while (!engine.isGameOver());
+        }
+        return new int[]{rolls, points};
+    }
+
+    private List<RecordedEvent> record(boolean withRolls) throws IOException {
+        Path file = dir.resolve("game.jfr");
+        int[] counts;
+        try (Recording recording = new Recording()) {
+            recording.enable("JavaCraps.RoundStart");
+            recording.enable("JavaCraps.PointEstablished");
+            recording.enable("JavaCraps.RoundResolved");
+            if (withRolls) {
+                recording.enable("JavaCraps.DiceRoll");
+            }
+            recording.start();
+            counts = playRounds();
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(withRolls ? counts[0] : 0, count(events, "JavaCraps.DiceRoll"));
+        assertEquals(counts[1], count(events, "JavaCraps.PointEstablished"));
+        return events;
+    }
+
+    private static long count(List<RecordedEvent> events, String name) {
+        return events.stream().filter(event -> event.getEventType().getName().equals(name)).count();
+    }
+
+    @Test
+    void testRoundEventsAreRecorded() throws IOException {
+        List<RecordedEvent> events = record(false);
+
+        assertEquals(ROUNDS, count(events, "JavaCraps.RoundStart"));
+        assertEquals(ROUNDS, count(events, "JavaCraps.RoundResolved"));
+        for (RecordedEvent event : events) {
+            assertNull(event.getStackTrace(), "Stack traces should be disabled");
+            if (event.getEventType().getName().equals("JavaCraps.RoundResolved")) {
+                assertEquals(BET, event.getInt("bet"));
+            }
+        }
+    }
+
+    @Test
+    void testDiceRollEventsWhenEnabled() throws IOException {
+        List<RecordedEvent> events = record(true);
+
+        events.stream()
+            .filter(event -> event.getEventType().getName().equals("JavaCraps.DiceRoll"))
+            .forEach(event -> assertEquals(event.getInt("die1") + event.getInt("die2"), event.getInt("total")));
+    }
+
+    @Test
+    void testRestoringARoundRecordsNoEvents() throws IOException {
+        Path file = dir.resolve("restore.jfr");
+        RoundState state = new RoundState();
+        try (Recording recording = new Recording()) {
+            recording.enable("JavaCraps.PointEstablished");
+            recording.start();
+            state.restore(RoundState.Status.PLAYING, 6);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertEquals(0, count(RecordingFile.readAllEvents(file), "JavaCraps.PointEstablished"));
+        assertEquals(RoundState.Phase.POINT_PHASE, state.getCurrentPhase());
+        assertEquals(6, state.getPoint());
+    }
+}
@@ -0,0 +1,62 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogHistogramTest {
+
+    @Test
+    void testSmallValuesAreExact() {
+        LogHistogram histogram = new LogHistogram();
+        for (int value = 0; value < 64; value++) {
+            histogram.record(value);
+            histogram.record(value);
+        }
+
+        for (int value = 0; value < 64; value++) {
+            assertEquals(2, histogram.getCountAt(value));
+        }
+        assertEquals(0, histogram.getMin());
+        assertEquals(63, histogram.getMax());
+        assertEquals(31.5, histogram.getMean(), 1e-9);
+        assertEquals(31, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    void testLargeValuesHaveBoundedRelativeError() {
+        LogHistogram histogram = new LogHistogram();
+        for (int value : new int[]{100, 1_000, 123_456, 99_999_999, Integer.MAX_VALUE}) {
+            LogHistogram single = new LogHistogram();
+            single.record(value);
+            single.record(value / 2);
+            int estimate = single.getValueAtPercentile(50);
+            assertTrue(estimate <= value / 2 && estimate >= value / 2 * (1 - 1.0 / 32),
+                value / 2 + " was estimated as " + estimate);
+            histogram.record(value);
+        }
+        assertEquals(Integer.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void testMerge() {
+        LogHistogram first = new LogHistogram();
+        LogHistogram second = new LogHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            (i % 2 == 0 ? first : second).record(i);
+        }
+
+        first.merge(second);
+
+        assertEquals(1000, first.getCount());
+        assertEquals(1, first.getMin());
+        assertEquals(1000, first.getMax());
+        assertEquals(500.5, first.getMean(), 1e-9);
+        assertEquals(900, first.getValueAtPercentile(90), 900 / 32.0);
+    }
+
+    @Test
+    void testNegativeValuesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new LogHistogram().record(-1));
+    }
+}
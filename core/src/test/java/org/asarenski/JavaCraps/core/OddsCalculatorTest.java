@@ -0,0 +1,72 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OddsCalculatorTest {
+    private static final double EPSILON = 1e-12;
+    private final OddsCalculator calculator = new OddsCalculator();
+
+    @Test
+    void testStandardPassLineOdds() {
+        assertEquals(8.0 / 36, calculator.getComeOutWinProbability(), EPSILON);
+        assertEquals(4.0 / 36, calculator.getComeOutLoseProbability(), EPSILON);
+        assertEquals(3.0 / 9, calculator.getPointWinProbability(4), EPSILON);
+        assertEquals(5.0 / 11, calculator.getPointWinProbability(6), EPSILON);
+        assertEquals(244.0 / 495, calculator.getPassLineWinProbability(), EPSILON);
+        assertEquals(7.0 / 495, calculator.getHouseEdge(), EPSILON);
+        assertEquals(557.0 / 165, calculator.getExpectedRollsPerRound(), EPSILON);
+    }
+
+    @Test
+    void testNonPointsAreNeverMade() {
+        assertEquals(0, calculator.getPointWinProbability(7));
+        assertEquals(0, calculator.getPointWinProbability(-1));
+        assertEquals(0, calculator.getPointWinProbability(13));
+    }
+
+    @Test
+    void testCraplessHouseEdge() {
+        OddsCalculator crapless = new OddsCalculator(RuleTable.CRAPLESS);
+        // Crapless craps has a well known pass line edge of about 5.38%
+        assertEquals(0.0538, crapless.getHouseEdge(), 0.0001);
+    }
+
+    @Test
+    void testBalanceDistributionSumsToOne() {
+        double[] distribution = calculator.getBalanceDistribution(100, 10, 200);
+        double total = 0;
+        for (double probability : distribution) {
+            total += probability;
+        }
+        assertEquals(1.0, total, 1e-9);
+    }
+
+    @Test
+    void testSingleAllInRound() {
+        assertEquals(251.0 / 495, calculator.getRiskOfRuin(10, 10, 1), EPSILON);
+        double[] distribution = calculator.getBalanceDistribution(10, 10, 1);
+        assertEquals(244.0 / 495, distribution[20], EPSILON);
+    }
+
+    @Test
+    void testZeroRoundsLeavesBalanceUnchanged() {
+        double[] distribution = calculator.getBalanceDistribution(100, 10, 0);
+        assertEquals(1.0, distribution[100], EPSILON);
+        assertEquals(0.0, calculator.getRiskOfRuin(100, 10, 0), EPSILON);
+    }
+
+    @Test
+    void testStartingAtWinningBalanceIsAlreadyOver() {
+        assertEquals(1.0, calculator.getTargetProbability(Player.getWinningBalance(), 10, 100), EPSILON);
+    }
+
+    @Test
+    void testMatchesSimulatedRiskOfRuin() {
+        double exact = calculator.getRiskOfRuin(100, 10, 100);
+        SimulationResult simulated = new ParallelSimulator(100, () -> new FlatBetStrategy(10), 100)
+            .run(40_000, 11L);
+        // Standard error of the simulated estimate is about 0.0025
+        assertEquals(exact, simulated.getRiskOfRuin(), 0.015);
+    }
+}
@@ -0,0 +1,48 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSimulatorTest {
+    private static final int TEST_BET = 10;
+
+    @Test
+    void testRunsRequestedNumberOfSessions() {
+        ParallelSimulator simulator = new ParallelSimulator(100, () -> new FlatBetStrategy(TEST_BET), 50);
+        SimulationResult result = simulator.run(5000);
+
+        assertEquals(5000, result.getSessions());
+        assertEquals(result.getRounds(), result.getWins() + result.getLosses());
+        assertEquals(result.getRounds() * TEST_BET, result.getTotalWagered());
+    }
+
+    @Test
+    void testSeededRunIsReproducibleAcrossPoolSizes() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool quad = new ForkJoinPool(4);
+        try {
+            SimulationResult first = new ParallelSimulator(100, () -> new FlatBetStrategy(TEST_BET), 100, DiceAlgorithm.DEFAULT, single)
+                .run(3000, 42L);
+            SimulationResult second = new ParallelSimulator(100, () -> new FlatBetStrategy(TEST_BET), 100, DiceAlgorithm.DEFAULT, quad)
+                .run(3000, 42L);
+
+            assertEquals(first.getRounds(), second.getRounds());
+            assertEquals(first.getRolls(), second.getRolls());
+            assertEquals(first.getNetWinnings(), second.getNetWinnings());
+            assertEquals(first.getRuinedSessions(), second.getRuinedSessions());
+        } finally {
+            single.shutdown();
+            quad.shutdown();
+        }
+    }
+
+    @Test
+    void testZeroSessions() {
+        ParallelSimulator simulator = new ParallelSimulator(100, () -> new FlatBetStrategy(TEST_BET), 10);
+        assertEquals(0, simulator.run(0).getSessions());
+        assertThrows(IllegalArgumentException.class, () -> simulator.run(-1));
+    }
+}
@@ -0,0 +1,182 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayEngineTest {
+    private static final long SEED = 2024;
+    private static final int INITIAL_BALANCE = 1_000_000;
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Records a session of varying bets and returns the balance before each round, plus the final balance.
+     */
+    private List<Integer> record(Path path, int rounds) throws IOException {
+        Player player = new Player("Recorder", INITIAL_BALANCE);
+        RoundEngine engine = new RoundEngine(player, new Dice(DiceAlgorithm.SPLITTABLE.create(SEED)));
+        List<Integer> balances = new ArrayList<>();
+        try (RollJournal journal = new RollJournal(path,
+                new JournalHeader(DiceAlgorithm.SPLITTABLE, SEED, INITIAL_BALANCE))) {
+            engine.addRollListener(journal);
+            for (int round = 0; round < rounds; round++) {
+                balances.add(player.getBalance());
+                engine.resetRound();
+                engine.placeBet(Player.getMinimumBet() * (round % 4 + 1));
+                do {
+                    engine.rollDice();
+                } while (!engine.isGameOver());
+            }
+        }
+        balances.add(player.getBalance());
+        return balances;
+    }
+
+    @Test
+    void testReplayToEndRebuildsFinalState() throws IOException {
+        Path path = dir.resolve("session.journal");
+        List<Integer> balances = record(path, 5000);
+
+        try (ReplayEngine replay = new ReplayEngine(path, 100)) {
+            assertEquals(5000, replay.getRoundCount());
+            assertEquals(5000, replay.replayToEnd());
+            assertEquals(balances.get(5000), replay.getPlayer().getBalance());
+            assertEquals(0, replay.getPlayer().getCurrentBet());
+            assertTrue(replay.getEngine().isGameOver());
+            assertEquals(0, replay.replayRounds(1), "Nothing should be left to replay");
+        }
+    }
+
+    @Test
+    void testSeekToAnyRound() throws IOException {
+        Path path = dir.resolve("session.journal");
+        List<Integer> balances = record(path, 1000);
+
+        try (ReplayEngine replay = new ReplayEngine(path, 64)) {
+            for (long round : new long[]{0, 1, 63, 64, 65, 500, 999, 1000, 3}) {
+                replay.seek(round);
+                assertEquals(round, replay.getRound());
+                assertEquals(balances.get((int) round), replay.getPlayer().getBalance(),
+                    "Balance at the start of round " + round);
+                assertEquals(RoundState.Phase.COME_OUT_ROLL, replay.getEngine().getRoundState().getCurrentPhase());
+            }
+            assertThrows(IllegalArgumentException.class, () -> replay.seek(1001));
+        }
+    }
+
+    @Test
+    void testReplayContinuesAfterSeek() throws IOException {
+        Path path = dir.resolve("session.journal");
+        List<Integer> balances = record(path, 300);
+
+        try (ReplayEngine replay = new ReplayEngine(path, 50)) {
+            replay.seek(120);
+            assertEquals(10, replay.replayRounds(10));
+            assertEquals(balances.get(130), replay.getPlayer().getBalance());
+        }
+    }
+
+    @Test
+    void testVerifySeed() throws IOException {
+        Path path = dir.resolve("session.journal");
+        record(path, 200);
+        try (ReplayEngine replay = new ReplayEngine(path)) {
+            assertEquals(SEED, replay.getHeader().seed());
+            assertEquals(-1, replay.verifySeed());
+        }
+
+        // The same rolls claimed to come from another seed
+        Path forged = dir.resolve("forged.journal");
+        try (RollJournalReader reader = new RollJournalReader(path);
+             RollJournal journal = new RollJournal(forged,
+                 new JournalHeader(DiceAlgorithm.SPLITTABLE, SEED + 1, INITIAL_BALANCE))) {
+            reader.readAll(journal);
+        }
+        try (ReplayEngine replay = new ReplayEngine(forged)) {
+            assertTrue(replay.verifySeed() >= 0);
+            replay.replayToEnd();
+        }
+    }
+
+    @Test
+    void testInconsistentJournalIsRejected() throws IOException {
+        Path path = dir.resolve("tampered.journal");
+        try (RollJournal journal = new RollJournal(path)) {
+            journal.onRoll(3, 3, 0, RoundState.Outcome.CONTINUE, 10, 90);
+            journal.onRoll(3, 4, 6, RoundState.Outcome.WIN, 10, 110); // A seven-out recorded as a win
+        }
+
+        try (ReplayEngine replay = new ReplayEngine(path)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class, replay::replayToEnd);
+            assertTrue(e.getMessage().contains("record 1"), e.getMessage());
+            assertThrows(IllegalStateException.class, replay::verifySeed, "Journal without a seed cannot be verified");
+        }
+    }
+
+    @Test
+    void testJournalTruncatedAfterOpeningIsRejected() throws IOException {
+        Path path = dir.resolve("session.journal");
+        record(path, 50);
+
+        try (ReplayEngine replay = new ReplayEngine(path)) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                channel.truncate(RollJournal.HEADER_SIZE + 10L * RollJournal.RECORD_SIZE);
+            }
+            assertThrows(EOFException.class, replay::replayToEnd, "Replay must stop rather than reuse stale records");
+        }
+    }
+
+    @Test
+    void testSimulatorSessionsReplaySeparately() throws IOException {
+        Path path = dir.resolve("simulation.journal");
+        Simulator simulator = new Simulator(200, new FlatBetStrategy(25), 40,
+            new Dice(DiceAlgorithm.SPLITTABLE.create(SEED)));
+        List<Long> sessionStartRounds = new ArrayList<>();
+        long[] rounds = {0};
+        simulator.addRollListener(new RollListener() {
+            private boolean roundStart;
+
+            @Override
+            public void onSessionStart(int balance) {
+                sessionStartRounds.add(rounds[0]);
+                roundStart = true;
+            }
+
+            @Override
+            public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+                if (roundStart) {
+                    rounds[0]++;
+                }
+                roundStart = outcome != RoundState.Outcome.CONTINUE;
+            }
+        });
+        SimulationResult result;
+        try (RollJournal journal = new RollJournal(path, new JournalHeader(DiceAlgorithm.SPLITTABLE, SEED, 200))) {
+            simulator.addRollListener(journal);
+            result = simulator.run(30);
+            assertEquals(result.getRolls() + 30, journal.getRecordCount(), "One record per roll and per session");
+        }
+
+        try (ReplayEngine replay = new ReplayEngine(path, 16)) {
+            assertEquals(result.getRounds(), replay.getRoundCount());
+            assertEquals(result.getRolls(), replay.getRollCount());
+            assertEquals(-1, replay.verifySeed(), "The dice stream carries on across sessions");
+            assertEquals(result.getRounds(), replay.replayToEnd(), "Each session replays from its own balance");
+            for (long round : sessionStartRounds) {
+                replay.seek(round);
+                assertEquals(200, replay.getPlayer().getBalance(), "Balance at the start of the session at round " + round);
+            }
+        }
+    }
+}
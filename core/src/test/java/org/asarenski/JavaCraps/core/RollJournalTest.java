@@ -0,0 +1,169 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollJournalTest {
+    private record Roll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+    }
+
+    @TempDir
+    Path dir;
+
+    private static List<Roll> playRounds(RoundEngine engine, int rounds) {
+        List<Roll> rolls = new ArrayList<>();
+        engine.addRollListener((die1, die2, point, outcome, bet, balance) ->
+            rolls.add(new Roll(die1, die2, point, outcome, bet, balance)));
+        for (int round = 0; round < rounds; round++) {
+            engine.resetRound();
+            engine.placeBet(Player.getMinimumBet());
+            do {
+                engine.rollDice();
+            } while (!engine.isGameOver());
+        }
+        return rolls;
+    }
+
+    private static List<Roll> readJournal(Path path) throws IOException {
+        List<Roll> rolls = new ArrayList<>();
+        try (RollJournalReader reader = new RollJournalReader(path)) {
+            reader.readAll((die1, die2, point, outcome, bet, balance) ->
+                rolls.add(new Roll(die1, die2, point, outcome, bet, balance)));
+        }
+        return rolls;
+    }
+
+    @Test
+    void testJournalRoundTrip() throws IOException {
+        Path path = dir.resolve("rolls.journal");
+        RoundEngine engine = new RoundEngine(new Player("Test", 1_000_000), new Dice(DiceAlgorithm.SPLITTABLE.create(7)));
+        List<Roll> expected;
+        try (RollJournal journal = new RollJournal(path, JournalHeader.UNSEEDED, 100)) {
+            engine.addRollListener(journal);
+            expected = playRounds(engine, 500);
+            assertEquals(expected.size(), journal.getRecordCount());
+        }
+
+        assertTrue(Files.size(path) >= RollJournal.HEADER_SIZE + (long) expected.size() * RollJournal.RECORD_SIZE,
+            "The file is not trimmed while it is mapped");
+        assertEquals(expected, readJournal(path), "Reading should stop at the record count in the header");
+    }
+
+    @Test
+    void testJournalSpansSeveralMappedRegions() throws IOException {
+        Path path = dir.resolve("large.journal");
+        int records = 300_000; // About 3.6 MB, several regions
+        try (RollJournal journal = new RollJournal(path)) {
+            for (int i = 0; i < records; i++) {
+                journal.onRoll(i % 6 + 1, 6, 0, RoundState.Outcome.CONTINUE, 5, i);
+            }
+        }
+
+        List<Roll> rolls = readJournal(path);
+        assertEquals(records, rolls.size());
+        for (int i = 0; i < records; i++) {
+            assertEquals(i, rolls.get(i).balance());
+        }
+    }
+
+    @Test
+    void testUnclosedJournalStopsAtZeroFill() throws IOException {
+        Path path = dir.resolve("crashed.journal");
+        RollJournal journal = new RollJournal(path);
+        journal.onRoll(3, 4, 0, RoundState.Outcome.WIN, 10, 110);
+        journal.onRoll(2, 2, 0, RoundState.Outcome.CONTINUE, 10, 100);
+        journal.flush();
+
+        // The mapped region is still full size, as after a crash
+        assertTrue(Files.size(path) > RollJournal.HEADER_SIZE + 2 * RollJournal.RECORD_SIZE);
+        assertEquals(List.of(
+            new Roll(3, 4, 0, RoundState.Outcome.WIN, 10, 110),
+            new Roll(2, 2, 0, RoundState.Outcome.CONTINUE, 10, 100)), readJournal(path));
+        journal.close();
+    }
+
+    @Test
+    void testSessionStartsAreRecorded() throws IOException {
+        Path path = dir.resolve("sessions.journal");
+        try (RollJournal journal = new RollJournal(path)) {
+            journal.onSessionStart(100);
+            journal.onRoll(3, 4, 0, RoundState.Outcome.WIN, 10, 110);
+            journal.onSessionStart(250);
+            journal.onRoll(1, 1, 0, RoundState.Outcome.LOSE, 25, 225);
+            assertEquals(4, journal.getRecordCount());
+        }
+
+        List<String> events = new ArrayList<>();
+        try (RollJournalReader reader = new RollJournalReader(path)) {
+            assertEquals(4, reader.readAll(new RollListener() {
+                @Override
+                public void onSessionStart(int balance) {
+                    events.add("start " + balance);
+                }
+
+                @Override
+                public void onRoll(int die1, int die2, int point, RoundState.Outcome outcome, int bet, int balance) {
+                    events.add(die1 + "+" + die2 + " " + outcome + " " + balance);
+                }
+            }));
+        }
+        assertEquals(List.of("start 100", "3+4 WIN 110", "start 250", "1+1 LOSE 225"), events);
+    }
+
+    @Test
+    void testReaderRejectsOtherFiles() throws IOException {
+        Path path = dir.resolve("other.txt");
+        Files.writeString(path, "not a journal");
+
+        assertThrows(IOException.class, () -> new RollJournalReader(path));
+    }
+
+    @Test
+    void testHeaderRoundTrip() throws IOException {
+        Path path = dir.resolve("seeded.journal");
+        JournalHeader header = new JournalHeader(DiceAlgorithm.XOROSHIRO128_PLUS_PLUS, -42, 250);
+        new RollJournal(path, header).close();
+
+        try (RollJournalReader reader = new RollJournalReader(path)) {
+            assertEquals(header, reader.getHeader());
+            assertTrue(reader.getHeader().isSeeded());
+        }
+    }
+
+    @Test
+    void testCorruptHeaderIsRejected() throws IOException {
+        Path path = dir.resolve("corrupt.journal");
+        new RollJournal(path, new JournalHeader(DiceAlgorithm.SPLITTABLE, 1, 100)).close();
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).putInt(20, 99); // Algorithm ordinal
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> new RollJournalReader(path));
+
+        ByteBuffer.wrap(bytes).putInt(20, -1).putShort(4, (short) 1); // An unknown version
+        Files.write(path, bytes);
+        assertThrows(IOException.class, () -> new RollJournalReader(path));
+    }
+
+    @Test
+    void testCorruptOutcomeIsRejected() throws IOException {
+        Path path = dir.resolve("corrupt.journal");
+        try (RollJournal journal = new RollJournal(path)) {
+            journal.onRoll(3, 4, 0, RoundState.Outcome.WIN, 10, 110);
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[RollJournal.HEADER_SIZE + 3] = 7; // Outcome ordinal
+        Files.write(path, bytes);
+        try (RollJournalReader reader = new RollJournalReader(path)) {
+            assertThrows(IOException.class, () -> reader.next((die1, die2, point, outcome, bet, balance) -> { }));
+        }
+    }
+}
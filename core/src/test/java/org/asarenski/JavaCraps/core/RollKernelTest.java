@@ -0,0 +1,106 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollKernelTest {
+    // Not a multiple of any vector length, so the scalar tail is exercised too
+    private static final int LANES = 1037;
+
+    @Test
+    void testVectorModuleIsEnabledForTests() {
+        assertInstanceOf(VectorRollKernel.class, RollKernel.select(LANES),
+            "Tests run with --add-modules jdk.incubator.vector");
+    }
+
+    @Test
+    void testScalarKernelIsUsedWhenSimdIsDisabled() {
+        System.setProperty(RollKernel.SIMD_PROPERTY, "false");
+        try {
+            assertSame(ScalarRollKernel.INSTANCE, RollKernel.select(LANES));
+        } finally {
+            System.clearProperty(RollKernel.SIMD_PROPERTY);
+        }
+    }
+
+    @Test
+    void testVectorRollMatchesScalar() {
+        SplittableRandom random = new SplittableRandom(17);
+        long[] scalarStates = random.longs(LANES).toArray();
+        long[] vectorStates = scalarStates.clone();
+        int[] scalarTotals = new int[LANES];
+        int[] vectorTotals = new int[LANES];
+        RollKernel vector = new VectorRollKernel(LANES);
+
+        int[] counts = new int[RuleTable.TOTALS];
+        for (int step = 0; step < 50; step++) {
+            ScalarRollKernel.INSTANCE.roll(LANES, scalarStates, scalarTotals);
+            vector.roll(LANES, vectorStates, vectorTotals);
+            assertArrayEquals(scalarTotals, vectorTotals);
+            for (int total : scalarTotals) {
+                counts[total]++;
+            }
+        }
+        assertArrayEquals(scalarStates, vectorStates);
+        for (int total = 2; total < RuleTable.TOTALS; total++) {
+            double expected = OddsCalculator.getRollProbability(total) * LANES * 50;
+            assertEquals(expected, counts[total], expected * 0.15, "Total " + total + " is off");
+        }
+    }
+
+    @Test
+    void testVectorResolveMatchesScalar() {
+        SplittableRandom random = new SplittableRandom(23);
+        int[] points = new int[LANES];
+        int[] totals = new int[LANES];
+        int[] wagers = new int[LANES];
+        int[] balances = new int[LANES];
+        int[] pointNumbers = {0, 4, 5, 6, 8, 9, 10};
+        for (int lane = 0; lane < LANES; lane++) {
+            points[lane] = pointNumbers[random.nextInt(pointNumbers.length)];
+            totals[lane] = 2 + random.nextInt(6) + random.nextInt(6);
+            wagers[lane] = 5 + random.nextInt(100);
+            balances[lane] = random.nextInt(1000);
+        }
+        int[] scalarPoints = points.clone();
+        int[] scalarBalances = balances.clone();
+        int[] scalarOutcomes = new int[LANES];
+        int[] vectorOutcomes = new int[LANES];
+
+        ScalarRollKernel.INSTANCE.resolve(LANES, RuleTable.STANDARD.transitions(), scalarPoints, totals,
+            scalarOutcomes, wagers, scalarBalances);
+        new VectorRollKernel(LANES).resolve(LANES, RuleTable.STANDARD.transitions(), points, totals,
+            vectorOutcomes, wagers, balances);
+
+        assertArrayEquals(scalarPoints, points);
+        assertArrayEquals(scalarOutcomes, vectorOutcomes);
+        assertArrayEquals(scalarBalances, balances);
+        assertTrue(Arrays.stream(scalarOutcomes).anyMatch(o -> o == RoundState.Outcome.WIN.ordinal()));
+    }
+
+    @Test
+    void testSeededBatchIsIdenticalWithEitherKernel() {
+        SimulationResult scalar = new BatchSimulator(100, 10, 100, 300, null, 7L, RuleTable.STANDARD,
+            ScalarRollKernel.INSTANCE).run(3000);
+        SimulationResult vector = new BatchSimulator(100, 10, 100, 300, null, 7L, RuleTable.STANDARD,
+            new VectorRollKernel(300)).run(3000);
+
+        assertEquals(3000, vector.getSessions());
+        assertEquals(scalar.getRolls(), vector.getRolls());
+        assertEquals(scalar.getNetWinnings(), vector.getNetWinnings());
+        assertEquals(scalar.getRuinedSessions(), vector.getRuinedSessions());
+    }
+
+    @Test
+    void testSeededBatchAgreesWithExactOdds() {
+        OddsCalculator odds = new OddsCalculator();
+        SimulationResult result = new BatchSimulator(100, 10, 100, 512, 99L).run(40_000);
+
+        assertEquals(odds.getRiskOfRuin(100, 10, 100), result.getRiskOfRuin(), 0.015);
+        assertEquals(odds.getExpectedRollsPerRound(), result.getAverageRollsPerRound(), 0.02);
+    }
+}
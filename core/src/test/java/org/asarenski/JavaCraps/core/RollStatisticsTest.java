@@ -0,0 +1,102 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollStatisticsTest {
+    private static final int BET = 10;
+
+    @Test
+    void testStreaksAndDrawdown() {
+        RollStatistics statistics = new RollStatistics();
+        statistics.onSessionStart(100);
+        statistics.onRoll(3, 4, 0, RoundState.Outcome.WIN, BET, 110);
+        statistics.onRoll(5, 6, 0, RoundState.Outcome.WIN, BET, 120);
+        statistics.onRoll(1, 1, 0, RoundState.Outcome.LOSE, BET, 110);
+        statistics.onRoll(2, 2, 0, RoundState.Outcome.CONTINUE, BET, 100);
+        statistics.onRoll(3, 4, 4, RoundState.Outcome.LOSE, BET, 100);
+        statistics.onRoll(1, 2, 0, RoundState.Outcome.LOSE, BET, 90);
+        statistics.onRoll(6, 5, 0, RoundState.Outcome.WIN, BET, 100);
+
+        assertEquals(7, statistics.getRolls());
+        assertEquals(6, statistics.getRounds());
+        assertEquals(3, statistics.getWins());
+        assertEquals(2, statistics.getLongestWinStreak());
+        assertEquals(3, statistics.getLongestLossStreak());
+        assertEquals(1, statistics.getCurrentStreak());
+        assertEquals(30, statistics.getMaxDrawdown(), "Peak of 120 down to 90");
+        assertEquals(2, statistics.getRollCount(7));
+        assertEquals(2, statistics.getRoundLengths().getMax());
+        assertEquals(0, statistics.getRoundResults().getMean(), 1e-9);
+    }
+
+    @Test
+    void testSessionsAreTrackedSeparately() {
+        RollStatistics statistics = new RollStatistics();
+        statistics.onSessionStart(100);
+        statistics.onRoll(1, 1, 0, RoundState.Outcome.LOSE, BET, 90);
+        statistics.onSessionStart(500);
+        statistics.onRoll(3, 4, 0, RoundState.Outcome.WIN, BET, 510);
+        statistics.onSessionStart(20);
+
+        assertEquals(10, statistics.getMaxDrawdown());
+        assertEquals(0, statistics.getCurrentStreak(), "A new session starts without a streak");
+        assertEquals(2, statistics.getSessionDrawdowns().getCount());
+    }
+
+    @Test
+    void testSimulatedStatisticsMatchTheory() {
+        Simulator simulator = new Simulator(500, new FlatBetStrategy(Player.getMinimumBet()), 1000,
+            new Dice(DiceAlgorithm.SPLITMIX64.create(11L)));
+        RollStatistics statistics = new RollStatistics();
+        simulator.addRollListener(statistics);
+        SimulationResult result = simulator.run(100);
+
+        assertEquals(result.getRolls(), statistics.getRolls());
+        assertEquals(result.getRounds(), statistics.getRounds());
+        assertEquals(result.getWins(), statistics.getWins());
+        assertEquals(7.0, statistics.getRollTotals().getMean(), 0.05);
+        assertEquals(35.0 / 6, statistics.getRollTotals().getVariance(), 0.1);
+        assertEquals(557.0 / 165, statistics.getRoundLengths().getMean(), 0.1);
+        assertEquals((double) statistics.getRollCount(7) / statistics.getRolls(), 1.0 / 6, 0.01);
+    }
+
+    @Test
+    void testMergeMatchesSingleStream() throws InterruptedException {
+        RollStatistics whole = new RollStatistics();
+        RollStatistics[] parts = {new RollStatistics(), new RollStatistics()};
+        Thread[] threads = new Thread[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            RollStatistics part = parts[i];
+            long seed = i;
+            threads[i] = new Thread(() -> {
+                Simulator simulator = new Simulator(100, new FlatBetStrategy(BET), 200,
+                    new Dice(DiceAlgorithm.SPLITMIX64.create(seed)));
+                simulator.addRollListener(part);
+                simulator.run(50);
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (long seed = 0; seed < parts.length; seed++) {
+            Simulator simulator = new Simulator(100, new FlatBetStrategy(BET), 200,
+                new Dice(DiceAlgorithm.SPLITMIX64.create(seed)));
+            simulator.addRollListener(whole);
+            simulator.run(50);
+        }
+
+        RollStatistics merged = new RollStatistics().merge(parts[0]).merge(parts[1]);
+        assertEquals(whole.getRolls(), merged.getRolls());
+        assertEquals(whole.getWins(), merged.getWins());
+        assertEquals(whole.getRollTotals().getMean(), merged.getRollTotals().getMean(), 1e-9);
+        assertEquals(whole.getRollTotals().getVariance(), merged.getRollTotals().getVariance(), 1e-9);
+        assertEquals(whole.getRoundResults().getVariance(), merged.getRoundResults().getVariance(), 1e-9);
+        assertEquals(whole.getRoundLengths().getValueAtPercentile(99),
+            merged.getRoundLengths().getValueAtPercentile(99));
+        assertEquals(whole.getMaxDrawdown(), merged.getMaxDrawdown());
+        assertEquals(whole.getLongestLossStreak(), merged.getLongestLossStreak());
+    }
+}
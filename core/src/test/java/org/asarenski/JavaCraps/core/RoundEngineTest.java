@@ -214,4 +214,58 @@ class RoundEngineTest {
         assertEquals(RoundState.Status.LOSE, roundEngine.getRoundState().getGameStatus(),
                 "Status should be LOSE after rolling 7 in point phase");
     }
-} 
\ No newline at end of file
+
+    @RepeatedTest(100)
+    void testDiceValuesMatchLastRoll() {
+        int roll = roundEngine.rollDice();
+        assertEquals(roll, roundEngine.getDie1() + roundEngine.getDie2(),
+            "Individual dice should add up to the last roll");
+        int[] diceValues = roundEngine.getDiceValues();
+        assertEquals(diceValues[0], roundEngine.getDie1());
+        assertEquals(diceValues[1], roundEngine.getDie2());
+    }
+
+    @RepeatedTest(100)
+    void testLastOutcomeMatchesStatus() {
+        roundEngine.placeBet(TEST_BET);
+        assertEquals(RoundState.Outcome.CONTINUE, roundEngine.getLastOutcome());
+        do {
+            roundEngine.rollDice();
+        } while (!roundEngine.isGameOver());
+
+        RoundState.Outcome expected = roundEngine.getRoundState().getGameStatus() == RoundState.Status.WIN
+            ? RoundState.Outcome.WIN : RoundState.Outcome.LOSE;
+        assertEquals(expected, roundEngine.getLastOutcome());
+
+        roundEngine.resetRound();
+        assertEquals(RoundState.Outcome.CONTINUE, roundEngine.getLastOutcome(),
+            "Last outcome should be cleared when the round is reset");
+    }
+
+    @RepeatedTest(100)
+    void testRollListenersSeeSettledRolls() {
+        int[] pointBefore = new int[1];
+        int[] calls = new int[2];
+        roundEngine.addRollListener((die1, die2, point, outcome, bet, balance) -> {
+            assertEquals(roundEngine.getDie1(), die1);
+            assertEquals(roundEngine.getDie2(), die2);
+            assertEquals(pointBefore[0], point, "Listeners should see the point in effect before the roll");
+            assertEquals(roundEngine.getLastOutcome(), outcome);
+            assertEquals(TEST_BET, bet);
+            assertEquals(player.getBalance(), balance);
+            calls[0]++;
+        });
+        roundEngine.addRollListener((die1, die2, point, outcome, bet, balance) -> calls[1]++);
+
+        roundEngine.placeBet(TEST_BET);
+        int rolls = 0;
+        do {
+            pointBefore[0] = roundEngine.getRoundState().getPoint();
+            roundEngine.rollDice();
+            rolls++;
+        } while (!roundEngine.isGameOver());
+
+        assertEquals(rolls, calls[0]);
+        assertEquals(rolls, calls[1], "Every registered listener should be notified");
+    }
+}
@@ -123,4 +123,33 @@ class RoundStateTest {
         assertEquals(RoundState.Phase.POINT_PHASE, roundState.getCurrentPhase());
         assertEquals(6, roundState.getPoint());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testResolveOutcomes() {
+        assertEquals(RoundState.Outcome.WIN, roundState.resolve(11));
+
+        roundState.reset();
+        assertEquals(RoundState.Outcome.LOSE, roundState.resolve(3));
+
+        roundState.reset();
+        assertEquals(RoundState.Outcome.CONTINUE, roundState.resolve(8));
+        assertEquals(RoundState.Outcome.CONTINUE, roundState.resolve(6));
+        assertEquals(RoundState.Outcome.WIN, roundState.resolve(8));
+
+        roundState.reset();
+        roundState.resolve(4);
+        assertEquals(RoundState.Outcome.LOSE, roundState.resolve(7));
+    }
+
+    @Test
+    void testRestore() {
+        roundState.restore(RoundState.Status.PLAYING, 9);
+        assertEquals(RoundState.Phase.POINT_PHASE, roundState.getCurrentPhase());
+        assertEquals(9, roundState.getPoint());
+        assertEquals(RoundState.Outcome.WIN, roundState.resolve(9));
+
+        roundState.restore(RoundState.Status.LOSE, 0);
+        assertEquals(RoundState.Phase.COME_OUT_ROLL, roundState.getCurrentPhase());
+        assertEquals(RoundState.Status.LOSE, roundState.getGameStatus());
+    }
+}
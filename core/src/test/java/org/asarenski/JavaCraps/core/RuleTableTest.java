@@ -0,0 +1,86 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleTableTest {
+
+    @Test
+    void testStandardComeOutRoll() {
+        RuleTable rules = RuleTable.STANDARD;
+        for (int roll = 2; roll <= 12; roll++) {
+            RoundState.Outcome expected = (roll == 7 || roll == 11) ? RoundState.Outcome.WIN
+                : (roll == 2 || roll == 3 || roll == 12) ? RoundState.Outcome.LOSE
+                : RoundState.Outcome.CONTINUE;
+            assertEquals(expected, rules.outcome(0, roll), "Come-out roll of " + roll);
+
+            int expectedPoint = expected == RoundState.Outcome.CONTINUE ? roll : 0;
+            assertEquals(expectedPoint, RuleTable.nextPointOf(rules.transition(0, roll)));
+        }
+    }
+
+    @Test
+    void testStandardPointPhase() {
+        int[] points = {4, 5, 6, 8, 9, 10};
+        for (int point : points) {
+            for (int roll = 2; roll <= 12; roll++) {
+                RoundState.Outcome expected = roll == point ? RoundState.Outcome.WIN
+                    : roll == 7 ? RoundState.Outcome.LOSE
+                    : RoundState.Outcome.CONTINUE;
+                assertEquals(expected, RuleTable.STANDARD.outcome(point, roll),
+                    "Roll of " + roll + " with point " + point);
+                assertEquals(point, RuleTable.nextPointOf(RuleTable.STANDARD.transition(point, roll)),
+                    "The point should not change during the point phase");
+            }
+        }
+    }
+
+    @Test
+    void testCraplessVariant() {
+        RoundState roundState = new RoundState(RuleTable.CRAPLESS);
+        assertEquals(RoundState.Outcome.CONTINUE, roundState.resolve(2));
+        assertEquals(RoundState.Phase.POINT_PHASE, roundState.getCurrentPhase());
+        assertEquals(2, roundState.getPoint());
+        assertEquals(RoundState.Outcome.WIN, roundState.resolve(2));
+
+        roundState.reset();
+        assertEquals(RoundState.Outcome.CONTINUE, roundState.resolve(11),
+            "Eleven should establish a point in crapless craps");
+        assertEquals(RoundState.Outcome.LOSE, roundState.resolve(7));
+        assertEquals(RoundState.Status.LOSE, roundState.getGameStatus());
+    }
+
+    @Test
+    void testInvalidRulesAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new RuleTable(new int[]{11}, new int[]{2, 3, 12}), "Seven must resolve the come-out roll");
+        assertThrows(IllegalArgumentException.class,
+            () -> new RuleTable(new int[]{7, 12}, new int[]{12}), "A total cannot both win and lose");
+        assertThrows(IllegalArgumentException.class,
+            () -> new RuleTable(new int[]{7, 13}, new int[]{}), "Totals must be between 2 and 12");
+    }
+
+    @Test
+    void testInvalidRollIsRejected() {
+        for (int roll : new int[]{-1, 0, 1, 13}) {
+            assertThrows(IllegalArgumentException.class, () -> RuleTable.STANDARD.transition(0, roll));
+            assertThrows(IllegalArgumentException.class, () -> RuleTable.STANDARD.transition(6, roll));
+        }
+        RoundState roundState = new RoundState();
+        assertThrows(IllegalArgumentException.class, () -> roundState.resolve(1));
+        assertEquals(RoundState.Status.PLAYING, roundState.getGameStatus(), "A rejected roll must not resolve the round");
+    }
+
+    @Test
+    void testInvalidPointIsRejected() {
+        for (int point : new int[]{-4, 1, 2, 3, 7, 11, 12, 13}) {
+            assertThrows(IllegalArgumentException.class, () -> RuleTable.STANDARD.transition(point, 6));
+            assertThrows(IllegalArgumentException.class, () -> RuleTable.STANDARD.outcome(point, point));
+        }
+        RoundState roundState = new RoundState();
+        roundState.enterPointPhase(7);
+        assertThrows(IllegalArgumentException.class, () -> roundState.resolve(7));
+        assertEquals(RoundState.Status.PLAYING, roundState.getGameStatus());
+        assertEquals(RoundState.Outcome.CONTINUE, RuleTable.CRAPLESS.outcome(2, 6), "Crapless establishes 2 as a point");
+    }
+}
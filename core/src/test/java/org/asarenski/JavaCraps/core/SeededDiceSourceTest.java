@@ -0,0 +1,57 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.random.RandomGeneratorFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededDiceSourceTest {
+
+    @ParameterizedTest
+    @EnumSource(DiceAlgorithm.class)
+    void testRestoreContinuesTheStream(DiceAlgorithm algorithm) {
+        SeededDiceSource original = algorithm.create(77L);
+        for (int i = 0; i < 1234; i++) {
+            original.rollPair();
+        }
+        assertEquals(1234, original.getDraws());
+
+        SeededDiceSource restored = algorithm.restore(original.getSeed(), original.getDraws());
+        assertEquals(algorithm, restored.getAlgorithm());
+        assertEquals(original.getDraws(), restored.getDraws());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(original.rollPair(), restored.rollPair());
+        }
+    }
+
+    @Test
+    void testRollsMatchPlainGeneratorSource() {
+        SeededDiceSource seeded = DiceAlgorithm.L64X128_MIX.create(5L);
+        DiceSource plain = new RandomGeneratorDiceSource(RandomGeneratorFactory.of("L64X128MixRandom").create(5L));
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(plain.rollPair(), seeded.rollPair());
+        }
+    }
+
+    @Test
+    void testSplitMixSkipsInConstantTime() {
+        SeededDiceSource source = DiceAlgorithm.SPLITMIX64.restore(1L, Long.MAX_VALUE / 2);
+        assertEquals(Long.MAX_VALUE / 2, source.getDraws());
+
+        SeededDiceSource stepped = DiceAlgorithm.SPLITMIX64.create(1L);
+        stepped.skip(3);
+        SeededDiceSource rolled = DiceAlgorithm.SPLITMIX64.create(1L);
+        rolled.rollPair();
+        rolled.rollPair();
+        rolled.rollPair();
+        assertEquals(rolled.rollPair(), stepped.rollPair());
+    }
+
+    @Test
+    void testNegativeSkipIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> DiceAlgorithm.SPLITMIX64.create(1L).skip(-1));
+    }
+}
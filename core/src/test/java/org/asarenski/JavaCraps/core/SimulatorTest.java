@@ -0,0 +1,71 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulatorTest {
+    private static final int TEST_BET = 10;
+
+    @Test
+    void testRoundTotalsAreConsistent() {
+        Simulator simulator = new Simulator(100, new FlatBetStrategy(TEST_BET), 50);
+        SimulationResult result = simulator.run(1000);
+
+        assertEquals(1000, result.getSessions());
+        assertEquals(result.getRounds(), result.getWins() + result.getLosses(),
+            "Every round should be either won or lost");
+        assertEquals(result.getRounds() * TEST_BET, result.getTotalWagered(),
+            "Flat betting from a multiple of the bet should always wager the full bet");
+        assertEquals((result.getWins() - result.getLosses()) * TEST_BET, result.getNetWinnings());
+        assertTrue(result.getRolls() >= result.getRounds(), "Every round takes at least one roll");
+    }
+
+    @Test
+    void testSessionsEndInRuinTargetOrRoundLimit() {
+        Simulator simulator = new Simulator(100, new FlatBetStrategy(TEST_BET), 200);
+        SimulationResult result = simulator.run(500);
+
+        assertTrue(result.getRuinedSessions() + result.getTargetReachedSessions() <= result.getSessions());
+        assertTrue(result.getRounds() <= 500L * 200, "No session should exceed the round limit");
+    }
+
+    @Test
+    void testLosingAllInBetRuinsSession() {
+        Simulator simulator = new Simulator(TEST_BET, new FlatBetStrategy(TEST_BET), 1);
+        SimulationResult result = simulator.run(1000);
+
+        assertEquals(result.getLosses(), result.getRuinedSessions(),
+            "Losing an all-in bet should ruin the session");
+    }
+
+    @Test
+    void testObservedHouseEdgeIsNearPassLineEdge() {
+        Simulator simulator = new Simulator(500, new FlatBetStrategy(Player.getMinimumBet()), 1000);
+        SimulationResult result = simulator.run(200);
+
+        // The pass line house edge is 7/495 (about 1.41%)
+        assertEquals(7.0 / 495, result.getHouseEdge(), 0.02);
+        assertEquals(557.0 / 165, result.getAverageRollsPerRound(), 0.1);
+    }
+
+    @Test
+    void testMergeAddsTotals() {
+        Simulator simulator = new Simulator(100, new FlatBetStrategy(TEST_BET), 10);
+        SimulationResult first = simulator.run(10);
+        SimulationResult second = simulator.run(20);
+        long rounds = first.getRounds() + second.getRounds();
+
+        first.merge(second);
+
+        assertEquals(30, first.getSessions());
+        assertEquals(rounds, first.getRounds());
+    }
+
+    @Test
+    void testInvalidConfigurationIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new Simulator(0, new FlatBetStrategy(TEST_BET), 10));
+        assertThrows(IllegalArgumentException.class,
+            () -> new Simulator(100, new FlatBetStrategy(TEST_BET), 0));
+    }
+}
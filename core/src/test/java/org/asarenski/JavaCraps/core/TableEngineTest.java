@@ -0,0 +1,101 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableEngineTest {
+
+    private static Dice fixedDice(int... pairs) {
+        int[] next = {0};
+        return new Dice(() -> pairs[next[0]++ % pairs.length]);
+    }
+
+    // Pair index for a given pair of dice, as produced by DiceSource.rollPair()
+    private static int pair(int die1, int die2) {
+        return (die1 - 1) * 6 + die2 - 1;
+    }
+
+    @Test
+    void testEverySeatSettlesOnTheSameRoll() {
+        TableEngine table = new TableEngine(fixedDice(pair(3, 4)), 16);
+        Player[] players = new Player[16];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player("Player-" + i, 100);
+            assertEquals(i, table.sit(players[i]));
+            Wager wager = i % 2 == 0 ? Wager.PASS : Wager.DONT_PASS;
+            assertTrue(table.getLedger(i).place(wager, 10));
+        }
+        assertEquals(-1, table.sit(new Player()), "The table is full");
+
+        assertEquals(7, table.roll());
+        assertEquals(3, table.getDie1());
+        assertEquals(4, table.getDie2());
+        for (int i = 0; i < players.length; i++) {
+            assertEquals(i % 2 == 0 ? 20 : 0, table.getPayout(i));
+            assertEquals(i % 2 == 0 ? 110 : 90, players[i].getBalance());
+        }
+    }
+
+    @Test
+    void testPlayerJoiningMidRoundFollowsThePoint() {
+        TableEngine table = new TableEngine(fixedDice(pair(2, 2), pair(1, 2), pair(3, 1)), 4);
+        Player first = new Player("First", 100);
+        table.sit(first);
+        table.getLedger(0).place(Wager.PASS, 10);
+        table.roll();
+        assertEquals(4, table.getPoint());
+
+        Player second = new Player("Second", 100);
+        int seat = table.sit(second);
+        WagerLedger ledger = table.getLedger(seat);
+        assertEquals(4, ledger.getPoint());
+        assertFalse(ledger.place(Wager.PASS, 10), "Line bets wait for the come-out roll");
+        assertTrue(ledger.place(Wager.COME, 10));
+
+        table.roll(); // 3 loses the come bet
+        assertEquals(90, second.getBalance());
+        table.roll(); // 4 makes the point
+        assertEquals(0, table.getPoint());
+        assertEquals(0, ledger.getPoint());
+        assertEquals(110, first.getBalance());
+    }
+
+    @Test
+    void testLeaveRequiresSettledWagers() {
+        TableEngine table = new TableEngine(fixedDice(pair(6, 5)), 2);
+        int seat = table.sit(new Player());
+        table.getLedger(seat).place(Wager.PASS, 10);
+        assertFalse(table.leave(seat));
+
+        table.roll();
+        assertTrue(table.leave(seat));
+        assertNull(table.getLedger(seat));
+        assertEquals(0, table.getSeatedCount());
+        assertFalse(table.leave(seat));
+        table.roll();
+        assertEquals(0, table.getPayout(seat));
+    }
+
+    @Test
+    void testSharedTableMatchesIndependentLedgers() {
+        TableEngine table = new TableEngine(new Dice(DiceAlgorithm.SPLITMIX64.create(7)), 3);
+        Dice replay = new Dice(DiceAlgorithm.SPLITMIX64.create(7));
+        WagerLedger solo = new WagerLedger(new Player("Solo", 100_000));
+        int seat = table.sit(new Player("Seated", 100_000));
+        WagerLedger seated = table.getLedger(seat);
+        for (int roll = 0; roll < 10_000; roll++) {
+            if (!seated.isActive(Wager.PLACE_8)) {
+                seated.place(Wager.PLACE_8, 12);
+                solo.place(Wager.PLACE_8, 12);
+            }
+            if (seated.getPoint() == 0 && !seated.isActive(Wager.PASS)) {
+                seated.place(Wager.PASS, 10);
+                solo.place(Wager.PASS, 10);
+            }
+            table.roll();
+            assertEquals(solo.resolve(replay.roll()), table.getPayout(seat));
+        }
+        assertEquals(solo.getPlayer().getBalance(), seated.getPlayer().getBalance());
+    }
+}
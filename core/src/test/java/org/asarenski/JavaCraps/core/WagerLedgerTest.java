@@ -0,0 +1,174 @@
+package org.asarenski.JavaCraps.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WagerLedgerTest {
+    private Player player;
+    private WagerLedger ledger;
+
+    @BeforeEach
+    void setUp() {
+        player = new Player("TestPlayer", 1000);
+        ledger = new WagerLedger(player);
+    }
+
+    @Test
+    void testPassLineComeOutOutcomes() {
+        assertTrue(ledger.place(Wager.PASS, 10));
+        assertEquals(990, player.getBalance());
+        assertEquals(20, ledger.resolve(7));
+        assertEquals(1010, player.getBalance());
+        assertEquals(0, ledger.getActiveMask());
+
+        ledger.place(Wager.PASS, 10);
+        assertEquals(0, ledger.resolve(3));
+        assertEquals(1000, player.getBalance());
+    }
+
+    @Test
+    void testDontPassBarsTwelve() {
+        ledger.place(Wager.DONT_PASS, 10);
+        assertEquals(0, ledger.resolve(12), "A come-out 12 should neither pay nor take don't pass");
+        assertTrue(ledger.isActive(Wager.DONT_PASS));
+        assertEquals(10, ledger.getAmount(Wager.DONT_PASS));
+        assertEquals(0, ledger.getPoint());
+        assertEquals(20, ledger.resolve(2));
+        assertEquals(1010, player.getBalance());
+    }
+
+    @Test
+    void testPassOddsPayTrueOdds() {
+        ledger.place(Wager.PASS, 10);
+        assertFalse(ledger.place(Wager.PASS_ODDS, 10), "Odds need a point");
+        ledger.resolve(6);
+        assertEquals(6, ledger.getPoint());
+        assertFalse(ledger.place(Wager.PASS, 10), "Line bets only on the come-out roll");
+        assertTrue(ledger.place(Wager.PASS_ODDS, 25));
+
+        assertEquals(0, ledger.resolve(8));
+        assertEquals(10 + 10 + 25 + 30, ledger.resolve(6));
+        assertEquals(0, ledger.getPoint());
+        assertEquals(1040, player.getBalance());
+    }
+
+    @Test
+    void testLayOddsPayInverseOdds() {
+        ledger.place(Wager.DONT_PASS, 10);
+        ledger.resolve(4);
+        ledger.place(Wager.DONT_PASS_ODDS, 40);
+        assertEquals(10 + 10 + 40 + 20, ledger.resolve(7));
+        assertEquals(1030, player.getBalance());
+    }
+
+    @Test
+    void testComeBetMovesToItsNumberAndWins() {
+        assertFalse(ledger.place(Wager.COME, 10), "Come bets need a point");
+        ledger.place(Wager.PASS, 10);
+        ledger.resolve(4);
+        assertTrue(ledger.place(Wager.COME, 10));
+        assertFalse(ledger.place(Wager.COME_ODDS_8, 10), "Come odds need a come bet on the number");
+
+        assertEquals(0, ledger.resolve(8));
+        assertTrue(ledger.isActive(Wager.COME_8));
+        assertFalse(ledger.isActive(Wager.COME));
+        assertTrue(ledger.place(Wager.COME_ODDS_8, 10));
+        assertEquals(10 + 10 + 10 + 12, ledger.resolve(8));
+        assertTrue(ledger.isActive(Wager.PASS));
+    }
+
+    @Test
+    void testComeOutSevenReturnsComeOddsAndLeavesPlaceBets() {
+        ledger.place(Wager.PASS, 10);
+        ledger.resolve(5);
+        ledger.place(Wager.COME, 10);
+        ledger.resolve(9);
+        ledger.place(Wager.COME_ODDS_9, 20);
+        ledger.resolve(5); // Pass line wins, come-out roll next
+        ledger.place(Wager.PLACE_6, 12);
+        int before = player.getBalance();
+
+        assertEquals(20, ledger.resolve(7), "Come odds are off on the come-out roll");
+        assertFalse(ledger.isActive(Wager.COME_9));
+        assertTrue(ledger.isActive(Wager.PLACE_6), "Place bets are off on the come-out roll");
+        assertEquals(before + 20, player.getBalance());
+    }
+
+    @Test
+    void testPlaceBetsPayPlaceOdds() {
+        ledger.place(Wager.PLACE_4, 5);
+        ledger.place(Wager.PLACE_5, 5);
+        ledger.place(Wager.PLACE_6, 6);
+        assertEquals(0, ledger.resolve(6), "Place bets are off on the come-out roll");
+        assertEquals(5 + 9, ledger.resolve(4));
+        assertEquals(5 + 7, ledger.resolve(5));
+        assertEquals(6 + 7, ledger.resolve(6));
+        assertEquals(0, ledger.getActiveMask());
+    }
+
+    @Test
+    void testRemoveReturnsStake() {
+        ledger.place(Wager.PASS, 10);
+        ledger.place(Wager.PLACE_8, 12);
+        assertEquals(0, ledger.remove(Wager.PASS), "Line bets are contract bets");
+        assertEquals(12, ledger.remove(Wager.PLACE_8));
+        assertEquals(10, ledger.getTotalAtRisk());
+        assertEquals(990, player.getBalance());
+    }
+
+    @Test
+    void testInvalidTotalIsRejected() {
+        ledger.place(Wager.PASS, 10);
+        ledger.resolve(6);
+        for (int total : new int[]{-1, 0, 1, 13}) {
+            assertThrows(IllegalArgumentException.class, () -> ledger.resolve(total));
+        }
+        assertEquals(6, ledger.getPoint(), "A rejected total must not change the point");
+        assertEquals(10, ledger.getAmount(Wager.PASS));
+    }
+
+    @Test
+    void testPlacementNeedsBalance() {
+        assertFalse(ledger.place(Wager.PLACE_6, 2000));
+        assertFalse(ledger.place(Wager.PLACE_6, 1));
+        assertFalse(ledger.place(Wager.COME_6, 10), "Come bets on a number cannot be placed directly");
+        assertEquals(1000, player.getBalance());
+    }
+
+    @Test
+    void testHouseEdgesMatchStandardPayouts() {
+        Player bank = new Player("Bank", Integer.MAX_VALUE / 2);
+        WagerLedger table = new WagerLedger(bank);
+        Dice dice = new Dice(DiceAlgorithm.SPLITMIX64.create(42));
+        long passWagered = 0;
+        long passReturned = 0;
+        long placeWagered = 0;
+        long placeReturned = 0;
+        for (int roll = 0; roll < 2_000_000; roll++) {
+            if (table.getPoint() == 0 && !table.isActive(Wager.PASS)) {
+                table.place(Wager.PASS, 10);
+                passWagered += 10;
+            }
+            if (!table.isActive(Wager.PLACE_6)) {
+                table.place(Wager.PLACE_6, 60);
+                placeWagered += 60;
+            }
+            boolean passInAction = table.isActive(Wager.PASS);
+            boolean placeWorking = table.getPoint() != 0;
+            int total = dice.roll();
+            int returned = table.resolve(total);
+            if (placeWorking && total == 6) {
+                placeReturned += 130;
+                returned -= 130;
+            }
+            if (passInAction) {
+                passReturned += returned;
+            }
+        }
+        // The pass line edge is 7/495 and the place 6 edge is 1/66
+        assertEquals(7.0 / 495, 1 - (double) passReturned / passWagered, 0.01);
+        assertEquals(1.0 / 66, 1 - (double) placeReturned / placeWagered, 0.01);
+    }
+}
@@ -1,6 +1,8 @@
 package org.asarenski.JavaCraps;
 
 import org.asarenski.JavaCraps.cli.CrapsGameCLI;
+import org.asarenski.JavaCraps.cli.ReplayCommand;
+import org.asarenski.JavaCraps.server.ServerCommand;
 import picocli.CommandLine;
 
 import java.io.InputStream;
@@ -21,12 +23,17 @@ public class Main {
 
     /**
      * Starts the game with the given command line arguments and input stream.
+     * The {@code server} subcommand hosts many concurrent sessions instead of one interactive game,
+     * and {@code replay} replays a recorded roll journal.
      * @param args Command line arguments
      * @param inputStream The input stream to read from
      * @return The exit code (0 for success, non-zero for failure)
      */
     public static int startGame(String[] args, InputStream inputStream) {
-        return new CommandLine(new CrapsGameCLI(inputStream)).execute(args);
+        return new CommandLine(new CrapsGameCLI(inputStream))
+            .addSubcommand(new ServerCommand())
+            .addSubcommand(new ReplayCommand())
+            .execute(args);
     }
 
     public static void main(String[] args) {
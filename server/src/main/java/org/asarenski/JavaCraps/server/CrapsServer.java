@@ -0,0 +1,217 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.controller.MetricsRegistry;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.Player;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many independent Craps sessions in one JVM.
+ * Every session runs on its own virtual thread with its own {@link GameController}, player
+ * and dice, so thousands of concurrent tables cost little more than their game state and
+ * sessions never share mutable state. Sessions are opened either in-process from any
+ * reader/writer pair, or by clients connecting to a loopback socket; both speak the
+ * protocol of {@link SessionHandler}.
+ */
+public class CrapsServer implements AutoCloseable {
+    /** Counter of socket clients whose streams failed */
+    public static final String METRIC_CLIENT_ERRORS = "craps.server.client.errors";
+    private static final int BACKLOG = 1024;
+
+    private final int initialBankroll;
+    private final DiceAlgorithm algorithm;
+    private final MetricsRegistry metrics;
+    private final MetricsRegistry.Counter clientErrors;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<Socket> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final AtomicLong completedSessions = new AtomicLong();
+    private final AtomicLong connections = new AtomicLong();
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private volatile ServerSocket serverSocket;
+
+    /**
+     * Creates a new CrapsServer whose sessions roll the default dice algorithm.
+     * @param initialBankroll The balance every session's player starts with
+     */
+    public CrapsServer(int initialBankroll) {
+        this(initialBankroll, DiceAlgorithm.DEFAULT);
+    }
+
+    /**
+     * Creates a new CrapsServer.
+     * @param initialBankroll The balance every session's player starts with
+     * @param algorithm The random algorithm each session's dice use
+     */
+    public CrapsServer(int initialBankroll, DiceAlgorithm algorithm) {
+        this(initialBankroll, algorithm, MetricsRegistry.NOOP);
+    }
+
+    /**
+     * Creates a new CrapsServer whose sessions all report to one metrics registry.
+     * @param initialBankroll The balance every session's player starts with
+     * @param algorithm The random algorithm each session's dice use
+     * @param metrics The registry every session's controller reports to
+     */
+    public CrapsServer(int initialBankroll, DiceAlgorithm algorithm, MetricsRegistry metrics) {
+        if (initialBankroll <= 0) {
+            throw new IllegalArgumentException("Initial bankroll must be positive");
+        }
+        this.initialBankroll = initialBankroll;
+        this.algorithm = algorithm;
+        this.metrics = metrics;
+        this.clientErrors = metrics.counter(METRIC_CLIENT_ERRORS);
+    }
+
+    /**
+     * Starts a session on its own virtual thread, reading commands from and writing
+     * responses to the given streams. The streams are not closed when the session ends.
+     * @param playerName The name of the session's player
+     * @param in The source of command lines
+     * @param out The destination of response lines
+     * @return a future that completes when the session ends
+     */
+    public Future<?> openSession(String playerName, Reader in, Writer out) {
+        GameController controller = new GameController(new Player(playerName, initialBankroll),
+                new Dice(algorithm.create()), metrics);
+        SessionHandler handler = new SessionHandler(controller, in, out);
+        return executor.submit(() -> {
+            activeSessions.incrementAndGet();
+            try {
+                handler.run();
+            } finally {
+                activeSessions.decrementAndGet();
+                completedSessions.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Starts accepting socket clients on the loopback interface, one session per connection.
+     * @param port The port to listen on, or 0 for any free port
+     * @return the port the server is listening on
+     * @throws IOException if the socket cannot be bound
+     */
+    public int start(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Server already started");
+        }
+        serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        executor.submit(this::acceptClients);
+        return serverSocket.getLocalPort();
+    }
+
+    private void acceptClients() {
+        while (!serverSocket.isClosed()) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                return; // Closed while waiting for a client
+            }
+            clients.add(socket);
+            executor.submit(() -> serveClient(socket));
+        }
+    }
+
+    private void serveClient(Socket socket) {
+        try (socket) {
+            Reader in = new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8);
+            Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+            openSession("Player-" + connections.incrementAndGet(), in, out).get();
+        } catch (IOException e) {
+            // Nothing waits on this task, so the failure is counted rather than rethrown
+            clientErrors.increment();
+        } catch (Exception e) {
+            // The session failed or the server is shutting down; closing the socket ends it
+        } finally {
+            clients.remove(socket);
+        }
+    }
+
+    /**
+     * Blocks until the server is closed.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitClose() throws InterruptedException {
+        closed.await();
+    }
+
+    /**
+     * Gets the number of sessions currently being played.
+     * @return the number of active sessions
+     */
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    /**
+     * Gets the number of sessions that have ended.
+     * @return the number of completed sessions
+     */
+    public long getCompletedSessions() {
+        return completedSessions.get();
+    }
+
+    /**
+     * Stops accepting clients, disconnects connected clients and interrupts in-process sessions.
+     * Every socket is closed even if closing another one fails.
+     * @throws UncheckedIOException if any socket failed to close, with further failures suppressed
+     */
+    @Override
+    public void close() {
+        IOException failure = null;
+        try {
+            if (serverSocket != null) {
+                failure = closeQuietly(serverSocket, failure);
+            }
+            for (Socket socket : clients) {
+                failure = closeQuietly(socket, failure);
+            }
+        } finally {
+            executor.shutdownNow();
+            closed.countDown();
+        }
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Closes a socket, recording a failure as the first failure or suppressed by it.
+     * @return the first failure so far, or null if none
+     */
+    private static IOException closeQuietly(Closeable socket, IOException failure) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            if (failure == null) {
+                return e;
+            }
+            failure.addSuppressed(e);
+        }
+        return failure;
+    }
+}
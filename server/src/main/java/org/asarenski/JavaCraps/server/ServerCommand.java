@@ -0,0 +1,51 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.ParameterException;
+import picocli.CommandLine.Spec;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Command(
+    name = "server",
+    mixinStandardHelpOptions = true,
+    description = "Host many concurrent Craps sessions over a loopback socket"
+)
+public class ServerCommand implements Runnable {
+
+    @Option(names = {"--port"}, description = "Port to listen on, 0 for any free port (default: ${DEFAULT-VALUE})",
+            defaultValue = "7777")
+    private int port;
+
+    @Option(names = {"-b", "--bankroll"}, description = "Initial bankroll of every session (must be positive)",
+            defaultValue = "100")
+    private int initialBankroll;
+
+    @Option(names = {"--rng"}, description = "Dice random algorithm: ${COMPLETION-CANDIDATES} (default: ${DEFAULT-VALUE})",
+            defaultValue = "L64X128_MIX")
+    private DiceAlgorithm diceAlgorithm;
+
+    @Spec
+    private CommandLine.Model.CommandSpec spec;
+
+    @Override
+    public void run() {
+        if (initialBankroll <= 0) {
+            throw new ParameterException(spec.commandLine(), "Invalid bankroll value: must be positive");
+        }
+        try (CrapsServer server = new CrapsServer(initialBankroll, diceAlgorithm)) {
+            int boundPort = server.start(port);
+            spec.commandLine().getOut().println("JavaCraps server listening on port " + boundPort);
+            spec.commandLine().getOut().flush();
+            server.awaitClose();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
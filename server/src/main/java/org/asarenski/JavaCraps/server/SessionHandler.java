@@ -0,0 +1,134 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.core.Player;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Drives one {@link GameController} over a line-based text protocol.
+ * Every command line gets exactly one response line:
+ * <pre>
+ *   bet &lt;amount&gt;  BET &lt;amount&gt; BALANCE &lt;balance&gt;
+ *   roll          ROLL &lt;die1&gt; &lt;die2&gt; &lt;total&gt; &lt;WIN|LOSE|CONTINUE&gt; POINT &lt;point&gt; BALANCE &lt;balance&gt;
+ *   state         STATE BALANCE &lt;balance&gt; BET &lt;bet&gt; POINT &lt;point&gt;
+ *   quit          BYE BALANCE &lt;balance&gt;
+ * </pre>
+ * Rejected commands answer {@code ERROR <reason>}. The session ends on {@code quit},
+ * at end of input, or after the roll that wins or loses the game, which is answered
+ * with a {@code GAMEOVER} line following the roll.
+ */
+public class SessionHandler implements Runnable {
+    private final GameController controller;
+    private final BufferedReader in;
+    private final Writer out;
+
+    /**
+     * Creates a new SessionHandler.
+     * @param controller The controller for this session's game
+     * @param in The source of command lines
+     * @param out The destination of response lines
+     */
+    public SessionHandler(GameController controller, Reader in, Writer out) {
+        this.controller = controller;
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+        this.out = out;
+    }
+
+    @Override
+    public void run() {
+        try {
+            Player player = controller.getPlayer();
+            send("WELCOME " + player.getName() + " BALANCE " + player.getBalance()
+                + " MINIMUM " + controller.getMinimumBet());
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (!handle(line.trim())) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Processes one command line.
+     * @return true if the session continues, false if it has ended
+     */
+    private boolean handle(String line) throws IOException {
+        String[] words = line.split("\\s+");
+        switch (words[0].toLowerCase()) {
+            case "bet" -> bet(words);
+            case "roll" -> {
+                return roll();
+            }
+            case "state" -> send("STATE BALANCE " + controller.getPlayer().getBalance()
+                + " BET " + controller.getPlayer().getCurrentBet() + " POINT " + controller.getPoint());
+            case "quit" -> {
+                send("BYE BALANCE " + controller.getPlayer().getBalance());
+                return false;
+            }
+            case "" -> send("ERROR Empty command");
+            default -> send("ERROR Unknown command: " + words[0]);
+        }
+        return true;
+    }
+
+    private void bet(String[] words) throws IOException {
+        if (words.length != 2) {
+            send("ERROR Usage: bet <amount>");
+            return;
+        }
+        if (isBetInPlay()) {
+            send("ERROR Round in progress");
+            return;
+        }
+        int amount;
+        try {
+            amount = Integer.parseInt(words[1]);
+        } catch (NumberFormatException e) {
+            send("ERROR Invalid amount: " + words[1]);
+            return;
+        }
+        if (!controller.startNewRound(amount)) {
+            send("ERROR Invalid bet: " + amount);
+            return;
+        }
+        send("BET " + amount + " BALANCE " + controller.getPlayer().getBalance());
+    }
+
+    private boolean roll() throws IOException {
+        if (!isBetInPlay()) {
+            send("ERROR No bet placed");
+            return true;
+        }
+        int total = controller.roll();
+        Player player = controller.getPlayer();
+        send("ROLL " + controller.getDie1() + " " + controller.getDie2() + " " + total + " "
+            + controller.getLastOutcome() + " POINT " + controller.getPoint() + " BALANCE " + player.getBalance());
+        if (controller.isRoundOver() && isSessionOver()) {
+            send("GAMEOVER " + (player.hasWon() ? "WON" : "LOST") + " BALANCE " + player.getBalance());
+            return false;
+        }
+        return true;
+    }
+
+    private boolean isBetInPlay() {
+        return controller.getPlayer().getCurrentBet() > 0 && !controller.isRoundOver();
+    }
+
+    private boolean isSessionOver() {
+        return controller.isGameSessionOver() || controller.getPlayer().getBalance() < controller.getMinimumBet();
+    }
+
+    private void send(String response) throws IOException {
+        out.write(response);
+        out.write('\n');
+        out.flush();
+    }
+}
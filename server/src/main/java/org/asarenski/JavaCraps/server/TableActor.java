@@ -0,0 +1,221 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.controller.GameView;
+import org.asarenski.JavaCraps.controller.MetricsRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Owns one table's {@link GameController} and applies commands to it from a single thread.
+ * Any number of threads submit commands to a bounded queue; a virtual thread drains it in
+ * batches of up to {@code maxBatch} commands, so one wakeup serves every command that arrived
+ * while the previous batch ran, and the controller and its {@code RoundEngine} are only ever
+ * touched by that thread. When the queue is full, commands are rejected immediately instead of
+ * blocking the caller, so an overloaded table sheds load rather than piling up waiting threads.
+ * <p>
+ * Each command completes its future with the {@link GameView} published after it, and the latest
+ * view can be read at any time without waiting for the queue.
+ */
+public class TableActor implements AutoCloseable {
+    /** Histogram of the number of queued commands when each batch is taken. */
+    public static final String METRIC_QUEUE_DEPTH = "craps.table.queue.depth";
+    /** Histogram of the number of commands applied per batch. */
+    public static final String METRIC_BATCH_SIZE = "craps.table.batch.size";
+    /** Counter of commands applied. */
+    public static final String METRIC_COMMANDS = "craps.table.commands";
+    /** Counter of commands rejected because the queue was full or the table closed. */
+    public static final String METRIC_COMMANDS_REJECTED = "craps.table.commands.rejected";
+
+    private enum Type {
+        PLACE_BET,
+        ROLL,
+        RESET
+    }
+
+    private record Command(Type type, int amount, CompletableFuture<GameView> result) {
+    }
+
+    // Wakes the drain thread when the table closes
+    private static final Command STOP = new Command(Type.RESET, 0, null);
+
+    private final GameController controller;
+    private final BlockingQueue<Command> queue;
+    private final int maxBatch;
+    private final Thread worker;
+    private final MetricsRegistry.Histogram queueDepth;
+    private final MetricsRegistry.Histogram batchSize;
+    private final MetricsRegistry.Counter commands;
+    private final MetricsRegistry.Counter rejected;
+    private volatile GameView view;
+    private volatile boolean closed;
+
+    /**
+     * Creates a table and starts its drain thread.
+     * @param controller The controller to own; it must not be used directly afterwards
+     * @param capacity The maximum number of queued commands
+     * @param maxBatch The maximum number of commands applied per wakeup
+     * @param metrics The registry to report queue depth, batch sizes and rejections to
+     */
+    public TableActor(GameController controller, int capacity, int maxBatch, MetricsRegistry metrics) {
+        if (capacity <= 0 || maxBatch <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.controller = controller;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.queueDepth = metrics.histogram(METRIC_QUEUE_DEPTH);
+        this.batchSize = metrics.histogram(METRIC_BATCH_SIZE);
+        this.commands = metrics.counter(METRIC_COMMANDS);
+        this.rejected = metrics.counter(METRIC_COMMANDS_REJECTED);
+        this.view = GameView.of(controller, 0);
+        this.worker = Thread.ofVirtual().name("table-" + controller.getPlayer().getName()).start(this::drain);
+    }
+
+    /**
+     * Queues a bet that starts a new round.
+     * @param amount The amount to bet
+     * @return a future completed with the view after the bet, or failed with IllegalArgumentException
+     *         for an invalid bet and RejectedExecutionException if the queue is full
+     */
+    public CompletableFuture<GameView> placeBet(int amount) {
+        return submit(Type.PLACE_BET, amount);
+    }
+
+    /**
+     * Queues a roll of the dice.
+     * @return a future completed with the view after the roll, or failed with IllegalStateException
+     *         if no round is in play and RejectedExecutionException if the queue is full
+     */
+    public CompletableFuture<GameView> roll() {
+        return submit(Type.ROLL, 0);
+    }
+
+    /**
+     * Queues a reset of the round.
+     * @return a future completed with the view after the reset, or failed with
+     *         RejectedExecutionException if the queue is full
+     */
+    public CompletableFuture<GameView> reset() {
+        return submit(Type.RESET, 0);
+    }
+
+    private CompletableFuture<GameView> submit(Type type, int amount) {
+        CompletableFuture<GameView> result = new CompletableFuture<>();
+        Command command = new Command(type, amount, result);
+        if (closed) {
+            reject(command, "Table closed");
+        } else if (!queue.offer(command)) {
+            reject(command, "Table queue is full");
+        } else if (closed && queue.remove(command)) {
+            // Queued after the drain thread stopped, so it would never be applied
+            reject(command, "Table closed");
+        }
+        return result;
+    }
+
+    private void reject(Command command, String reason) {
+        rejected.increment();
+        command.result().completeExceptionally(new RejectedExecutionException(reason));
+    }
+
+    private void drain() {
+        List<Command> batch = new ArrayList<>(maxBatch);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queueDepth.record(queue.size() + 1);
+                queue.drainTo(batch, maxBatch - 1);
+                batchSize.record(batch.size());
+                for (Command command : batch) {
+                    if (command == STOP) {
+                        rejectRemaining(batch);
+                        return;
+                    }
+                    apply(command);
+                }
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // Stop accepting commands first, so none are queued after the last drain
+            closed = true;
+            rejectRemaining(batch);
+        }
+    }
+
+    private void apply(Command command) {
+        boolean accepted = true;
+        try {
+            switch (command.type()) {
+                case PLACE_BET -> accepted = controller.startNewRound(command.amount());
+                case ROLL -> controller.roll();
+                case RESET -> controller.resetRound();
+            }
+        } catch (RuntimeException e) {
+            command.result().completeExceptionally(e);
+            return;
+        }
+        commands.increment();
+        // A rejected bet still resets the round, so a view is published either way
+        GameView published = GameView.of(controller, view.version() + 1);
+        view = published;
+        if (accepted) {
+            command.result().complete(published);
+        } else {
+            command.result().completeExceptionally(new IllegalArgumentException("Invalid bet: " + command.amount()));
+        }
+    }
+
+    /**
+     * Fails every command still queued, or taken but not applied, once the table has stopped.
+     */
+    private void rejectRemaining(List<Command> batch) {
+        queue.drainTo(batch);
+        for (Command command : batch) {
+            if (command != STOP && !command.result().isDone()) {
+                reject(command, "Table closed");
+            }
+        }
+    }
+
+    /**
+     * Gets the latest published view of the table without waiting for queued commands.
+     * @return the current view
+     */
+    public GameView getView() {
+        return view;
+    }
+
+    /**
+     * Gets the number of commands waiting to be applied.
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Stops accepting commands, applies those already queued and waits for the drain thread to finish.
+     * Waits for queue space if the queue is full. Returns at once if the drain thread has already
+     * stopped, e.g. because it was interrupted.
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @Override
+    public void close() throws InterruptedException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (!worker.isAlive()) {
+            rejectRemaining(new ArrayList<>());
+            return;
+        }
+        queue.put(STOP);
+        worker.join();
+    }
+}
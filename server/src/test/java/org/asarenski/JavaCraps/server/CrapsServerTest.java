@@ -0,0 +1,106 @@
+package org.asarenski.JavaCraps.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CrapsServerTest {
+    private static final int SESSIONS = 2000;
+
+    @Test
+    void testManyInProcessSessions() throws Exception {
+        try (CrapsServer server = new CrapsServer(100)) {
+            List<Future<?>> sessions = new ArrayList<>();
+            List<StringWriter> outputs = new ArrayList<>();
+            for (int i = 0; i < SESSIONS; i++) {
+                StringWriter out = new StringWriter();
+                outputs.add(out);
+                sessions.add(server.openSession("P" + i, new StringReader("bet 10\nstate\nquit\n"), out));
+            }
+            for (Future<?> session : sessions) {
+                session.get(30, TimeUnit.SECONDS);
+            }
+
+            for (int i = 0; i < SESSIONS; i++) {
+                assertEquals(List.of(
+                    "WELCOME P" + i + " BALANCE 100 MINIMUM 5",
+                    "BET 10 BALANCE 90",
+                    "STATE BALANCE 90 BET 10 POINT 0",
+                    "BYE BALANCE 90"), outputs.get(i).toString().lines().toList());
+            }
+            assertEquals(SESSIONS, server.getCompletedSessions());
+            assertEquals(0, server.getActiveSessions());
+        }
+    }
+
+    @Test
+    void testConcurrentSocketClients() throws Exception {
+        int clients = 200;
+        try (CrapsServer server = new CrapsServer(100);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int port = server.start(0);
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                results.add(executor.submit(() -> playOverSocket(port)));
+            }
+            for (Future<List<String>> result : results) {
+                List<String> lines = result.get(30, TimeUnit.SECONDS);
+                assertTrue(lines.get(0).startsWith("WELCOME Player-"), lines.get(0));
+                assertEquals("BET 5 BALANCE 95", lines.get(1));
+                assertTrue(lines.get(2).startsWith("ROLL "), lines.get(2));
+                assertTrue(lines.get(3).startsWith("BYE BALANCE "), lines.get(3));
+            }
+        }
+    }
+
+    private static List<String> playOverSocket(int port) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+             BufferedReader in = new BufferedReader(
+                 new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            List<String> lines = new ArrayList<>();
+            lines.add(in.readLine());
+            out.println("bet 5");
+            lines.add(in.readLine());
+            out.println("roll");
+            lines.add(in.readLine());
+            out.println("quit");
+            lines.add(in.readLine());
+            return lines;
+        }
+    }
+
+    @Test
+    void testCloseDisconnectsClients() throws Exception {
+        CrapsServer server = new CrapsServer(100);
+        int port = server.start(0);
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             BufferedReader in = new BufferedReader(
+                 new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            assertNotNull(in.readLine());
+            server.close();
+            server.awaitClose();
+            assertNull(in.readLine(), "Closing the server should disconnect the client");
+        }
+    }
+
+    @Test
+    void testInvalidBankrollIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CrapsServer(0));
+    }
+}
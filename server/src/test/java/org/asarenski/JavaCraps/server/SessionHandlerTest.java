@@ -0,0 +1,73 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.Player;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionHandlerTest {
+    // Pair indices for a DiceSource: die1 = pair / 6 + 1, die2 = pair % 6 + 1
+    private static final int SEVEN = 2 * 6 + 3;
+    private static final int SIX = 2 * 6 + 2;
+
+    private static List<String> play(String input, int balance, int... pairs) {
+        Iterator<Integer> rolls = java.util.Arrays.stream(pairs).iterator();
+        GameController controller = new GameController(new Player("Tester", balance), new Dice(rolls::next));
+        StringWriter out = new StringWriter();
+        new SessionHandler(controller, new StringReader(input), out).run();
+        return out.toString().lines().toList();
+    }
+
+    @Test
+    void testWinningComeOutRoll() {
+        List<String> lines = play("bet 10\nroll\nstate\nquit\n", 100, SEVEN);
+
+        assertEquals(List.of(
+            "WELCOME Tester BALANCE 100 MINIMUM 5",
+            "BET 10 BALANCE 90",
+            "ROLL 3 4 7 WIN POINT 0 BALANCE 110",
+            "STATE BALANCE 110 BET 0 POINT 0",
+            "BYE BALANCE 110"), lines);
+    }
+
+    @Test
+    void testPointIsMadeOverSeveralRolls() {
+        List<String> lines = play("bet 10\nroll\nroll\n", 100, SIX, SIX);
+
+        assertEquals("ROLL 3 3 6 CONTINUE POINT 6 BALANCE 90", lines.get(2));
+        assertEquals("ROLL 3 3 6 WIN POINT 6 BALANCE 110", lines.get(3));
+        assertEquals(4, lines.size(), "End of input should end the session");
+    }
+
+    @Test
+    void testInvalidCommandsAreRejected() {
+        List<String> lines = play("roll\nbet\nbet ten\nbet 1\nbet 10\nbet 10\ndance\nquit\n", 100);
+
+        assertEquals(List.of(
+            "WELCOME Tester BALANCE 100 MINIMUM 5",
+            "ERROR No bet placed",
+            "ERROR Usage: bet <amount>",
+            "ERROR Invalid amount: ten",
+            "ERROR Invalid bet: 1",
+            "BET 10 BALANCE 90",
+            "ERROR Round in progress",
+            "ERROR Unknown command: dance",
+            "BYE BALANCE 90"), lines);
+    }
+
+    @Test
+    void testLosingLastChipsEndsSession() {
+        List<String> lines = play("bet 10\nroll\nroll\nstate\n", 10, SIX, SEVEN);
+
+        assertEquals("ROLL 3 4 7 LOSE POINT 6 BALANCE 0", lines.get(3));
+        assertEquals("GAMEOVER LOST BALANCE 0", lines.get(4));
+        assertEquals(5, lines.size(), "No commands should be read after the game is over");
+    }
+}
@@ -0,0 +1,180 @@
+package org.asarenski.JavaCraps.server;
+
+import org.asarenski.JavaCraps.controller.GameController;
+import org.asarenski.JavaCraps.controller.GameView;
+import org.asarenski.JavaCraps.controller.MetricsRegistry;
+import org.asarenski.JavaCraps.controller.SimpleMetricsRegistry;
+import org.asarenski.JavaCraps.core.Dice;
+import org.asarenski.JavaCraps.core.DiceAlgorithm;
+import org.asarenski.JavaCraps.core.DiceSource;
+import org.asarenski.JavaCraps.core.Player;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableActorTest {
+
+    private static GameController newController(int balance) {
+        return new GameController(new Player("Table", balance), new Dice(DiceAlgorithm.SPLITMIX64.create(5)));
+    }
+
+    /**
+     * Controller whose first roll blocks until released, so commands pile up behind it.
+     */
+    private static GameController blockedController(CountDownLatch entered, CountDownLatch release) {
+        DiceSource source = DiceAlgorithm.SPLITMIX64.create(5);
+        DiceSource blocking = () -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return source.rollPair();
+        };
+        return new GameController(new Player("Table", 100_000), new Dice(blocking));
+    }
+
+    private static Throwable failure(CompletableFuture<GameView> future) {
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        return e.getCause();
+    }
+
+    @Test
+    void testCommandsApplyInOrder() throws Exception {
+        try (TableActor table = new TableActor(newController(100), 16, 4, MetricsRegistry.NOOP)) {
+            assertEquals(0, table.getView().version());
+            assertInstanceOf(IllegalStateException.class, failure(table.roll()), "No bet placed");
+            assertInstanceOf(IllegalArgumentException.class, failure(table.placeBet(1000)));
+
+            GameView view = table.placeBet(10).get(10, TimeUnit.SECONDS);
+            assertEquals(90, view.balance());
+            assertEquals(10, view.currentBet());
+            while (!view.isRoundOver()) {
+                long version = view.version();
+                view = table.roll().get(10, TimeUnit.SECONDS);
+                assertEquals(version + 1, view.version());
+            }
+            assertSame(view, table.getView());
+            assertTrue(table.reset().get(10, TimeUnit.SECONDS).isComeOutRoll());
+        }
+    }
+
+    @Test
+    void testFullQueueRejectsAndBatchesDrain() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+        try (TableActor table = new TableActor(blockedController(entered, release), 8, 4, metrics)) {
+            table.placeBet(10).get(10, TimeUnit.SECONDS);
+            CompletableFuture<GameView> blocked = table.roll();
+            assertTrue(entered.await(10, TimeUnit.SECONDS), "The drain thread should be rolling");
+            List<CompletableFuture<GameView>> queued = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                queued.add(table.reset());
+            }
+            Throwable overflow = failure(table.reset());
+            assertInstanceOf(RejectedExecutionException.class, overflow);
+            assertEquals("Table queue is full", overflow.getMessage());
+            assertEquals(8, table.getQueueDepth());
+
+            release.countDown();
+            blocked.get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<GameView> future : queued) {
+                assertTrue(future.get(10, TimeUnit.SECONDS).isComeOutRoll());
+            }
+        }
+        assertEquals(1, metrics.getCount(TableActor.METRIC_COMMANDS_REJECTED));
+        assertEquals(10, metrics.getCount(TableActor.METRIC_COMMANDS));
+        assertEquals(4, metrics.getHistogram(TableActor.METRIC_BATCH_SIZE).getMax(), "Queued commands drain in batches");
+        assertEquals(8, metrics.getHistogram(TableActor.METRIC_QUEUE_DEPTH).getMax());
+    }
+
+    @Test
+    void testManyProducersShareOneTable() throws Exception {
+        SimpleMetricsRegistry metrics = new SimpleMetricsRegistry();
+        int producers = 32;
+        int commandsEach = 500;
+        List<CompletableFuture<GameView>> futures = new ArrayList<>();
+        try (TableActor table = new TableActor(newController(Integer.MAX_VALUE / 2), 64, 32, metrics);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<List<CompletableFuture<GameView>>>> submitted = new ArrayList<>();
+            for (int p = 0; p < producers; p++) {
+                submitted.add(executor.submit(() -> {
+                    List<CompletableFuture<GameView>> mine = new ArrayList<>();
+                    for (int i = 0; i < commandsEach; i++) {
+                        CompletableFuture<GameView> roll = table.roll();
+                        mine.add(roll);
+                        if (roll.isCompletedExceptionally()) {
+                            Thread.yield(); // Back off when the queue is full
+                        }
+                        if (i % 8 == 0) {
+                            mine.add(table.placeBet(10));
+                        }
+                    }
+                    return mine;
+                }));
+            }
+            for (var future : submitted) {
+                futures.addAll(future.get());
+            }
+        }
+        long applied = 0;
+        long rejected = 0;
+        for (CompletableFuture<GameView> future : futures) {
+            assertTrue(future.isDone(), "Closing the table completes every command");
+            try {
+                future.get();
+                applied++;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RejectedExecutionException) {
+                    rejected++;
+                }
+            }
+        }
+        assertEquals(rejected, metrics.getCount(TableActor.METRIC_COMMANDS_REJECTED));
+        assertTrue(applied <= metrics.getCount(TableActor.METRIC_COMMANDS));
+        assertTrue(metrics.getHistogram(TableActor.METRIC_QUEUE_DEPTH).getMax() <= 64);
+    }
+
+    @Test
+    void testClosedTableRejectsCommands() throws Exception {
+        TableActor table = new TableActor(newController(100), 4, 4, MetricsRegistry.NOOP);
+        CompletableFuture<GameView> bet = table.placeBet(10);
+        table.close();
+        assertEquals(10, bet.get(10, TimeUnit.SECONDS).currentBet(), "Queued commands are applied before closing");
+        Throwable closed = failure(table.roll());
+        assertEquals("Table closed", closed.getMessage());
+        table.close();
+    }
+
+    @Test
+    void testInterruptedDrainThreadClosesTable() throws Exception {
+        DiceSource source = DiceAlgorithm.SPLITMIX64.create(5);
+        DiceSource interrupting = () -> {
+            Thread.currentThread().interrupt(); // Stops the drain thread after this roll
+            return source.rollPair();
+        };
+        TableActor table = new TableActor(new GameController(new Player("Table", 100), new Dice(interrupting)), 2, 2,
+            MetricsRegistry.NOOP);
+        table.placeBet(10).get(10, TimeUnit.SECONDS);
+        table.roll().get(10, TimeUnit.SECONDS);
+
+        for (int i = 0; i < 5; i++) {
+            assertInstanceOf(RejectedExecutionException.class, failure(table.roll()),
+                "Commands after the drain thread stopped must fail rather than wait forever");
+        }
+        table.close(); // Must not block on the full queue or the stopped thread
+    }
+}